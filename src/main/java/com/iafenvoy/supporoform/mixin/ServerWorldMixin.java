@@ -0,0 +1,39 @@
+package com.iafenvoy.supporoform.mixin;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import slimeknights.tconstruct.library.tools.helper.HarvestBatch;
+import slimeknights.tconstruct.smeltery.block.entity.multiblock.StructureChangeTracker;
+
+@Mixin(ServerWorld.class)
+public class ServerWorldMixin {
+	@Inject(at = @At("HEAD"), method = "onBlockChanged")
+	private void onBlockChanged(BlockPos pos, BlockState oldBlock, BlockState newBlock, CallbackInfo info) {
+		// notify smeltery structures of changes to their interior
+		StructureChangeTracker.onBlockChanged((ServerWorld) (Object) this, pos, newBlock);
+	}
+
+	@Inject(at = @At("HEAD"), method = "spawnEntity", cancellable = true)
+	private void spawnEntity(Entity entity, CallbackInfoReturnable<Boolean> info) {
+		// AOE harvesting merges drops and spawns them once all blocks are broken
+		if (HarvestBatch.captureDrop((ServerWorld) (Object) this, entity)) {
+			info.setReturnValue(true);
+		}
+	}
+
+	@Inject(at = @At("HEAD"), method = "updateNeighbors", cancellable = true)
+	private void updateNeighbors(BlockPos pos, Block block, CallbackInfo info) {
+		// AOE harvesting defers neighbor updates until all blocks are broken
+		if (HarvestBatch.deferNeighborUpdate((ServerWorld) (Object) this, pos, block)) {
+			info.cancel();
+		}
+	}
+}
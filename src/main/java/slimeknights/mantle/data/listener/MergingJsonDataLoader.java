@@ -14,6 +14,7 @@ import slimeknights.mantle.util.JsonHelper;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -56,25 +57,53 @@ public abstract class MergingJsonDataLoader<B> implements SynchronousResourceRel
 
     @Override
     public void reload(ResourceManager manager) {
+        long time = System.nanoTime();
+        List<Entry<Identifier, List<Resource>>> files = new ArrayList<>(manager.findAllResources(this.folder, fileName -> fileName.getPath().endsWith(".json")).entrySet());
+        // parse all files in parallel, ordered stream keeps the results lined up with the files so merging is deterministic
+        List<List<JsonElement>> parsed = files.parallelStream().map(entry -> this.parseAll(entry.getKey(), entry.getValue())).toList();
+        long parseTime = System.nanoTime();
+
         Map<Identifier, B> map = new HashMap<>();
-        for (Entry<Identifier, List<Resource>> entry : manager.findAllResources(this.folder, fileName -> fileName.getPath().endsWith(".json")).entrySet()) {
-            Identifier filePath = entry.getKey();
+        for (int i = 0; i < files.size(); i++) {
+            Identifier filePath = files.get(i).getKey();
             Identifier id = JsonHelper.localize(filePath, this.folder, ".json");
-
-            for (Resource resource : entry.getValue()) {
-                try (Reader reader = resource.getReader()) {
-                    JsonElement json = net.minecraft.util.JsonHelper.deserialize(this.gson, reader, JsonElement.class);
-                    if (json == null) {
-                        log.error("Couldn't load data file {} from {} in data pack {} as its null or empty", id, filePath, resource.getResourcePackName());
-                    } else {
+            List<Resource> resources = files.get(i).getValue();
+            List<JsonElement> jsons = parsed.get(i);
+            for (int j = 0; j < resources.size(); j++) {
+                JsonElement json = jsons.get(j);
+                if (json != null) {
+                    try {
                         B builder = map.computeIfAbsent(id, this.builderConstructor);
                         this.parse(builder, id, json);
+                    } catch (RuntimeException ex) {
+                        log.error("Couldn't parse data file {} from {} in data pack {}", id, filePath, resources.get(j).getResourcePackName(), ex);
                     }
-                } catch (RuntimeException | IOException ex) {
-                    log.error("Couldn't parse data file {} from {} in data pack {}", id, filePath, resource.getResourcePackName(), ex);
                 }
             }
         }
+        log.info("Parsed {} JSON files from {} in {} ms, merged in {} ms", files.size(), this.folder, (parseTime - time) / 1000000f, (System.nanoTime() - parseTime) / 1000000f);
         this.finishLoad(map, manager);
     }
+
+    /**
+     * Parses all resources for a single file, in pack order
+     *
+     * @return Parsed JSON for each resource, null for resources that failed to parse
+     */
+    private List<JsonElement> parseAll(Identifier filePath, List<Resource> resources) {
+        List<JsonElement> jsons = new ArrayList<>(resources.size());
+        for (Resource resource : resources) {
+            JsonElement json = null;
+            try (Reader reader = resource.getReader()) {
+                json = net.minecraft.util.JsonHelper.deserialize(this.gson, reader, JsonElement.class);
+                if (json == null) {
+                    log.error("Couldn't load data file {} in data pack {} as its null or empty", filePath, resource.getResourcePackName());
+                }
+            } catch (RuntimeException | IOException ex) {
+                log.error("Couldn't parse data file {} in data pack {}", filePath, resource.getResourcePackName(), ex);
+            }
+            jsons.add(json);
+        }
+        return jsons;
+    }
 }
@@ -0,0 +1,74 @@
+package slimeknights.mantle.data.listener;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.resource.JsonDataLoader;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceFinder;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.profiler.Profiler;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Alternative to {@link JsonDataLoader} that parses the JSON files in parallel during the prepare phase.
+ * Like the vanilla loader only the top most JSON for each ID is used, so the result does not depend on the order files finish parsing.
+ */
+@Log4j2
+public abstract class ParallelJsonDataLoader extends JsonDataLoader {
+    private final Gson gson;
+    private final String folder;
+
+    public ParallelJsonDataLoader(Gson gson, String folder) {
+        super(gson, folder);
+        this.gson = gson;
+        this.folder = folder;
+    }
+
+    @Override
+    protected Map<Identifier, JsonElement> prepare(ResourceManager manager, Profiler profiler) {
+        long time = System.nanoTime();
+        ResourceFinder finder = ResourceFinder.json(this.folder);
+        List<Entry<Identifier, Resource>> resources = new ArrayList<>(finder.findResources(manager).entrySet());
+        // ordered stream keeps the results lined up with the resources
+        List<JsonElement> parsed = resources.parallelStream().map(entry -> parse(entry.getKey(), entry.getValue())).toList();
+        Map<Identifier, JsonElement> map = new HashMap<>();
+        for (int i = 0; i < resources.size(); i++) {
+            JsonElement json = parsed.get(i);
+            if (json != null) {
+                Identifier id = finder.toResourceId(resources.get(i).getKey());
+                if (map.putIfAbsent(id, json) != null) {
+                    throw new IllegalStateException("Duplicate data file ignored with ID " + id);
+                }
+            }
+        }
+        log.info("Parsed {} JSON files from {} in {} ms", map.size(), this.folder, (System.nanoTime() - time) / 1000000f);
+        return map;
+    }
+
+    /**
+     * Parses a single file, logging any errors
+     *
+     * @return Parsed JSON, or null if it failed to parse
+     */
+    @Nullable
+    private JsonElement parse(Identifier file, Resource resource) {
+        try (Reader reader = resource.getReader()) {
+            return net.minecraft.util.JsonHelper.deserialize(this.gson, reader, JsonElement.class);
+        } catch (IllegalArgumentException | IOException | JsonParseException ex) {
+            log.error("Couldn't parse data file {} from {}", file, resource.getResourcePackName(), ex);
+            return null;
+        }
+    }
+}
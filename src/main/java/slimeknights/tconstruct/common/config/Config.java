@@ -43,6 +43,7 @@ public class Config {
         public final BooleanValue glassRecipeFix;
         public final Map<TinkerHeadType, BooleanValue> headDrops;
         public final DoubleValue repairKitAmount;
+        public final IntValue aoeBlocksPerTick;
 
         // loot
         public final BooleanValue slimyLootChests;
@@ -88,6 +89,10 @@ public class Config {
                     .comment("Amount of durability restored by a repair kit in terms of ingots. Does not affect the cost to create the kit, that is controlled by JSON.")
                     .defineInRange("repairKitAmount", 2f, 0f, Short.MAX_VALUE);
 
+            this.aoeBlocksPerTick = builder
+                    .comment("Maximum number of extra blocks a single area of effect break, such as vein mining, will break in one tick. Any remaining blocks are broken over the following ticks.\nSet to 0 to break all blocks in the same tick.")
+                    .defineInRange("aoeBlocksPerTick", 128, 0, Short.MAX_VALUE);
+
             builder.pop();
 
 //      this.chestsKeepInventory = builder
@@ -236,11 +241,13 @@ public class Config {
         public final ForgeConfigSpec.BooleanValue tankFluidModel;
         public final ForgeConfigSpec.BooleanValue extraToolTips; // TODO: do we even need this config option? who would turn it off?
         public final ForgeConfigSpec.BooleanValue logMissingMaterialTextures;
+        public final ForgeConfigSpec.BooleanValue dynamicMaterialAtlas;
         public final ForgeConfigSpec.BooleanValue logMissingModifierTextures;
         public final ForgeConfigSpec.BooleanValue showModifiersInJEI;
         public final ForgeConfigSpec.BooleanValue renderShieldSlotItem;
         public final ForgeConfigSpec.BooleanValue modifiersIDsInAdvancedTooltips;
         public final ForgeConfigSpec.IntValue maxSmelteryItemQuads;
+        public final ForgeConfigSpec.IntValue smelteryItemBillboardDistance;
 
         // framed modifier
         public final ForgeConfigSpec.BooleanValue renderItemFrame;
@@ -275,6 +282,11 @@ public class Config {
                     .translation("tconstruct.configgui.logMissingMaterialTextures")
                     .define("logMissingMaterialTextures", false);
 
+            this.dynamicMaterialAtlas = builder
+                    .comment("If true, material textures for tools and parts are loaded or generated when first displayed rather than stitching every material into the block atlas on resource reload. Speeds up loading with many materials")
+                    .translation("tconstruct.configgui.dynamicMaterialAtlas")
+                    .define("dynamicMaterialAtlas", true);
+
             this.logMissingModifierTextures = builder
                     .comment("If true, the game will log all modifier textures which do not exist in resource packs but can be added, can be helpful for moddevs or resourcepack makers")
                     .translation("tconstruct.configgui.logMissingMaterialTextures")
@@ -290,6 +302,11 @@ public class Config {
                             "Setting this lower will cause fewer items to be renderer (but never a partial item). Set to -1 to allow unlimited quads, and 0 to disable the item renderer.")
                     .defineInRange("maxSmelteryItemQuads", 3500, -1, Short.MAX_VALUE);
 
+            this.smelteryItemBillboardDistance = builder
+                    .comment("Distance in blocks beyond which items in the smeltery are drawn as a single flat sprite facing the camera instead of their full model.",
+                            "Set to 0 to always render the full item models.")
+                    .defineInRange("smelteryItemBillboardDistance", 32, 0, 256);
+
             this.modifiersIDsInAdvancedTooltips = builder
                     .comment("If true, shows modifier IDs in advanced tooltips for tools and tool parts.",
                             "They are more intrusive than most advanced tooltip content, so this option is provided in case some mod made poor design decisions and put essential gameplay info in tooltips or for pack makers who do not need modifier info.")
@@ -1,5 +1,9 @@
 package slimeknights.tconstruct.gadgets.entity;
 
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.floats.FloatList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
 import net.minecraft.block.BlockState;
 import net.minecraft.enchantment.ProtectionEnchantment;
 import net.minecraft.entity.Entity;
@@ -7,25 +11,32 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.TntEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.fluid.FluidState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
 import net.minecraft.world.event.GameEvent;
 import net.minecraft.world.explosion.Explosion;
 import net.minecraft.world.explosion.ExplosionBehavior;
 import net.minecraftforge.event.ForgeEventFactory;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Custom explosion logic for EFLNs, more spherical and less random, plus works underwater
  */
 public class EFLNExplosion extends Explosion {
+    /**
+     * Minimum number of sections to evaluate before splitting the work across the common pool
+     */
+    private static final int PARALLEL_SECTIONS = 8;
+
     public EFLNExplosion(World world, @Nullable Entity entity, @Nullable DamageSource damage, @Nullable ExplosionBehavior context, double x, double y, double z, float size, boolean causesFire, DestructionType mode) {
         super(world, entity, damage, context, x, y, z, size, causesFire, mode);
     }
@@ -37,40 +48,58 @@ public class EFLNExplosion extends Explosion {
         // we do a sphere of a certain radius, and check if the blockpos is inside the radius
         float radius = this.power * this.power;
         int range = (int) radius + 1;
+        BlockPos center = BlockPos.ofFloored(this.x, this.y, this.z);
 
-        Set<BlockPos> set = new HashSet<>();
-        for (int x = -range; x < range; ++x) {
-            for (int y = -range; y < range; ++y) {
-                for (int z = -range; z < range; ++z) {
-                    int distance = x * x + y * y + z * z;
-                    // inside the sphere?
-                    if (distance <= radius) {
-                        BlockPos blockpos = new BlockPos(x, y, z).add(BlockPos.ofFloored(this.x, this.y, this.z));
-                        // no air blocks
-                        if (this.world.isAir(blockpos)) {
-                            continue;
-                        }
-
-                        // explosion "strength" at the current position
-                        float f = this.power * (1f - distance / (radius));
-                        BlockState blockstate = this.world.getBlockState(blockpos);
-
-                        FluidState fluid = this.world.getFluidState(blockpos);
-                        float f2 = Math.max(blockstate.getBlock().getBlastResistance(), fluid.getBlastResistance());
-                        if (this.getEntity() != null) {
-                            f2 = this.getEntity().getEffectiveExplosionResistance(this, this.world, blockpos, blockstate, fluid, f2);
+        // find all sections that may contain blocks to destroy, fetching chunks on the main thread as it may load them
+        List<SectionTask> tasks = new ArrayList<>();
+        int minY = Math.max(center.getY() - range, this.world.getBottomY());
+        int maxY = Math.min(center.getY() + range - 1, this.world.getTopY() - 1);
+        if (minY <= maxY) {
+            int minSectionX = ChunkSectionPos.getSectionCoord(center.getX() - range);
+            int maxSectionX = ChunkSectionPos.getSectionCoord(center.getX() + range - 1);
+            int minSectionY = ChunkSectionPos.getSectionCoord(minY);
+            int maxSectionY = ChunkSectionPos.getSectionCoord(maxY);
+            int minSectionZ = ChunkSectionPos.getSectionCoord(center.getZ() - range);
+            int maxSectionZ = ChunkSectionPos.getSectionCoord(center.getZ() + range - 1);
+            for (int sectionX = minSectionX; sectionX <= maxSectionX; sectionX++) {
+                for (int sectionZ = minSectionZ; sectionZ <= maxSectionZ; sectionZ++) {
+                    Chunk chunk = this.world.getChunk(sectionX, sectionZ);
+                    for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                        ChunkSection section = chunk.getSection(chunk.sectionCoordToIndex(sectionY));
+                        // all air sections have nothing to destroy
+                        if (!section.isEmpty() && sectionInRange(center, sectionX, sectionY, sectionZ, radius)) {
+                            tasks.add(new SectionTask(section, sectionX, sectionY, sectionZ));
                         }
+                    }
+                }
+            }
+        }
 
-                        f -= (f2 + 0.3F) * 0.3F;
+        // evaluate sections, in parallel for large explosions. Ordered streams keep the results in section order
+        // entity resistance hooks may access the world, so without an entity we can discard resistant blocks in the section task
+        Entity source = this.getEntity();
+        boolean filter = source == null;
+        Stream<SectionTask> stream = tasks.size() >= PARALLEL_SECTIONS ? tasks.parallelStream() : tasks.stream();
+        List<SectionResult> results = stream.map(task -> task.evaluate(center, range, radius, this.power, filter)).toList();
 
-                        if (f > 0.0F && (this.getEntity() == null || this.getEntity().canExplosionDestroyBlock(this, this.world, blockpos, blockstate, f))) {
-                            set.add(blockpos);
-                        }
-                    }
+        // apply entity hooks and collect the final blocks on the main thread
+        List<BlockPos> affected = this.getAffectedBlocks();
+        for (SectionResult result : results) {
+            LongList positions = result.positions();
+            for (int i = 0; i < positions.size(); i++) {
+                BlockPos blockpos = BlockPos.fromLong(positions.getLong(i));
+                BlockState blockstate = result.states().get(i);
+                float f2 = result.resistances().getFloat(i);
+                if (source != null) {
+                    f2 = source.getEffectiveExplosionResistance(this, this.world, blockpos, blockstate, blockstate.getFluidState(), f2);
+                }
+                // explosion "strength" at the current position
+                float f = result.strengths().getFloat(i) - (f2 + 0.3F) * 0.3F;
+                if (f > 0.0F && (source == null || source.canExplosionDestroyBlock(this, this.world, blockpos, blockstate, f))) {
+                    affected.add(blockpos);
                 }
             }
         }
-        this.getAffectedBlocks().addAll(set);
 
         // damage and blast back entities
         float diameter = this.power * 2;
@@ -118,4 +147,91 @@ public class EFLNExplosion extends Explosion {
             }
         }
     }
+
+    /**
+     * Checks if the closest block in the given section is within the explosion radius
+     */
+    private static boolean sectionInRange(BlockPos center, int sectionX, int sectionY, int sectionZ, float radius) {
+        int dx = distanceToSection(center.getX(), sectionX);
+        int dy = distanceToSection(center.getY(), sectionY);
+        int dz = distanceToSection(center.getZ(), sectionZ);
+        return dx * dx + dy * dy + dz * dz <= radius;
+    }
+
+    /**
+     * Gets the distance from the coordinate to the closest block in the section along a single axis
+     */
+    private static int distanceToSection(int coord, int section) {
+        int min = ChunkSectionPos.getBlockCoord(section);
+        if (coord < min) {
+            return min - coord;
+        }
+        int max = min + 15;
+        return coord > max ? coord - max : 0;
+    }
+
+    /**
+     * Chunk section to evaluate for destroyed blocks
+     */
+    private record SectionTask(ChunkSection section, int x, int y, int z) {
+        /**
+         * Finds all blocks in this section the explosion may destroy. Only reads from the section, so it is safe to run off the main thread while the main thread waits.
+         *
+         * @param center Explosion center
+         * @param range  Range of the explosion cube
+         * @param radius Squared radius of the explosion sphere
+         * @param power  Explosion power
+         * @param filter If true, discards blocks whose resistance exceeds the explosion strength
+         * @return Blocks that may be destroyed
+         */
+        private SectionResult evaluate(BlockPos center, int range, float radius, float power, boolean filter) {
+            SectionResult result = new SectionResult(new LongArrayList(), new FloatArrayList(), new FloatArrayList(), new ArrayList<>());
+            int centerX = center.getX(), centerY = center.getY(), centerZ = center.getZ();
+            // intersect the section with the explosion cube
+            int startX = Math.max(ChunkSectionPos.getBlockCoord(x), centerX - range);
+            int endX = Math.min(ChunkSectionPos.getBlockCoord(x) + 15, centerX + range - 1);
+            int startY = Math.max(ChunkSectionPos.getBlockCoord(y), centerY - range);
+            int endY = Math.min(ChunkSectionPos.getBlockCoord(y) + 15, centerY + range - 1);
+            int startZ = Math.max(ChunkSectionPos.getBlockCoord(z), centerZ - range);
+            int endZ = Math.min(ChunkSectionPos.getBlockCoord(z) + 15, centerZ + range - 1);
+            for (int blockY = startY; blockY <= endY; blockY++) {
+                int dy = blockY - centerY;
+                for (int blockZ = startZ; blockZ <= endZ; blockZ++) {
+                    int dz = blockZ - centerZ;
+                    for (int blockX = startX; blockX <= endX; blockX++) {
+                        int dx = blockX - centerX;
+                        int distance = dx * dx + dy * dy + dz * dz;
+                        // inside the sphere?
+                        if (distance <= radius) {
+                            BlockState blockstate = section.getBlockState(blockX & 15, blockY & 15, blockZ & 15);
+                            // no air blocks
+                            if (blockstate.isAir()) {
+                                continue;
+                            }
+                            float strength = power * (1f - distance / radius);
+                            float resistance = Math.max(blockstate.getBlock().getBlastResistance(), blockstate.getFluidState().getBlastResistance());
+                            if (filter && strength - (resistance + 0.3F) * 0.3F <= 0) {
+                                continue;
+                            }
+                            result.positions().add(BlockPos.asLong(blockX, blockY, blockZ));
+                            result.strengths().add(strength);
+                            result.resistances().add(resistance);
+                            result.states().add(blockstate);
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Blocks in a section the explosion may destroy, stored as parallel lists
+     *
+     * @param positions   Packed block positions
+     * @param strengths   Explosion strength at each position
+     * @param resistances Block and fluid blast resistance at each position
+     * @param states      Block state at each position
+     */
+    private record SectionResult(LongList positions, FloatList strengths, FloatList resistances, List<BlockState> states) {}
 }
@@ -0,0 +1,211 @@
+package slimeknights.tconstruct.library.client;
+
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.util.math.MatrixStack;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Buffer source recording vertices by render layer, so geometry that rarely changes can be built once and replayed each frame.
+ * Positions and normals are stored relative to the matrices used while recording, and are transformed by the current matrices on replay.
+ * <p>
+ * Light is combined with the light passed on replay by taking the brighter of each component, so geometry recorded with no light follows the world light while emissive vertices stay bright.
+ * Replay goes through the regular buffers so translucent sorting and batching with other block entities work as before.
+ */
+public class RecordedVertices implements VertexConsumerProvider {
+    /**
+     * Recorded vertices for each layer, in the order the layers were first requested
+     */
+    private final Map<RenderLayer, Recorder> layers = new LinkedHashMap<>();
+
+    @Override
+    public VertexConsumer getBuffer(RenderLayer layer) {
+        return layers.computeIfAbsent(layer, l -> new Recorder());
+    }
+
+    /**
+     * Replays all recorded vertices
+     *
+     * @param buffer Buffer to draw into
+     * @param pose   Current matrices
+     * @param light  Packed light to combine with the recorded light
+     */
+    public void render(VertexConsumerProvider buffer, MatrixStack.Entry pose, int light) {
+        for (Entry<RenderLayer, Recorder> entry : layers.entrySet()) {
+            Recorder recorder = entry.getValue();
+            if (!recorder.isEmpty()) {
+                recorder.render(buffer.getBuffer(entry.getKey()), pose, light);
+            }
+        }
+    }
+
+    /**
+     * Combines two packed light values, keeping the brighter block and sky light
+     */
+    private static int combineLight(int first, int second) {
+        return Math.max(first & 0xFFFF, second & 0xFFFF) | Math.max(first >>> 16, second >>> 16) << 16;
+    }
+
+    /**
+     * Vertex consumer storing vertices for a single render layer
+     */
+    private static class Recorder implements VertexConsumer {
+        /**
+         * Floats stored per vertex: position, texture, and normal
+         */
+        private static final int FLOATS = 8;
+        /**
+         * Ints stored per vertex: color, overlay, and light
+         */
+        private static final int INTS = 3;
+
+        private final FloatArrayList floats = new FloatArrayList();
+        private final IntArrayList ints = new IntArrayList();
+        /**
+         * Layers without overlay or normals reject those elements, so they are only replayed if recorded
+         */
+        private boolean hasOverlay = false;
+        private boolean hasNormal = false;
+
+        // vertex being built
+        private float x, y, z, u, v, normalX, normalY, normalZ;
+        private int color = -1;
+        private int overlay = 0;
+        private int light = 0;
+        private boolean colorFixed = false;
+        private int fixedColor = -1;
+
+        /**
+         * Packs the given color components
+         */
+        private static int packColor(int red, int green, int blue, int alpha) {
+            return (alpha & 0xFF) << 24 | (red & 0xFF) << 16 | (green & 0xFF) << 8 | (blue & 0xFF);
+        }
+
+        /**
+         * Checks if no vertices were recorded
+         */
+        public boolean isEmpty() {
+            return ints.isEmpty();
+        }
+
+        @Override
+        public VertexConsumer vertex(double x, double y, double z) {
+            this.x = (float) x;
+            this.y = (float) y;
+            this.z = (float) z;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer color(int red, int green, int blue, int alpha) {
+            this.color = packColor(red, green, blue, alpha);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer texture(float u, float v) {
+            this.u = u;
+            this.v = v;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer overlay(int u, int v) {
+            this.overlay = (u & 0xFFFF) | (v & 0xFFFF) << 16;
+            this.hasOverlay = true;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer light(int u, int v) {
+            this.light = (u & 0xFFFF) | (v & 0xFFFF) << 16;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer normal(float x, float y, float z) {
+            this.normalX = x;
+            this.normalY = y;
+            this.normalZ = z;
+            this.hasNormal = true;
+            return this;
+        }
+
+        @Override
+        public void next() {
+            floats.add(x);
+            floats.add(y);
+            floats.add(z);
+            floats.add(u);
+            floats.add(v);
+            floats.add(normalX);
+            floats.add(normalY);
+            floats.add(normalZ);
+            ints.add(colorFixed ? fixedColor : color);
+            ints.add(overlay);
+            ints.add(light);
+        }
+
+        @Override
+        public void fixedColor(int red, int green, int blue, int alpha) {
+            this.colorFixed = true;
+            this.fixedColor = packColor(red, green, blue, alpha);
+        }
+
+        @Override
+        public void unfixColor() {
+            this.colorFixed = false;
+        }
+
+        /**
+         * Replays the recorded vertices into the given consumer
+         */
+        private void render(VertexConsumer consumer, MatrixStack.Entry pose, int combinedLight) {
+            Matrix4f matrix = pose.getPositionMatrix();
+            Matrix3f normalMatrix = pose.getNormalMatrix();
+            Vector4f position = new Vector4f();
+            Vector3f normal = new Vector3f();
+            int vertices = ints.size() / INTS;
+            for (int i = 0; i < vertices; i++) {
+                int f = i * FLOATS;
+                int n = i * INTS;
+                matrix.transform(position.set(floats.getFloat(f), floats.getFloat(f + 1), floats.getFloat(f + 2), 1f));
+                int color = ints.getInt(n);
+                int light = combineLight(ints.getInt(n + 2), combinedLight);
+                if (hasNormal) {
+                    normalMatrix.transform(normal.set(floats.getFloat(f + 5), floats.getFloat(f + 6), floats.getFloat(f + 7)));
+                }
+                if (hasOverlay && hasNormal) {
+                    // full entity format, buffer builders have a fast path for this
+                    consumer.vertex(position.x(), position.y(), position.z(),
+                                    (color >> 16 & 0xFF) / 255f, (color >> 8 & 0xFF) / 255f, (color & 0xFF) / 255f, (color >>> 24) / 255f,
+                                    floats.getFloat(f + 3), floats.getFloat(f + 4), ints.getInt(n + 1), light,
+                                    normal.x(), normal.y(), normal.z());
+                } else {
+                    consumer.vertex(position.x(), position.y(), position.z());
+                    consumer.color(color >> 16 & 0xFF, color >> 8 & 0xFF, color & 0xFF, color >>> 24);
+                    consumer.texture(floats.getFloat(f + 3), floats.getFloat(f + 4));
+                    if (hasOverlay) {
+                        consumer.overlay(ints.getInt(n + 1));
+                    }
+                    consumer.light(light);
+                    if (hasNormal) {
+                        consumer.normal(normal.x(), normal.y(), normal.z());
+                    }
+                    consumer.next();
+                }
+            }
+        }
+    }
+}
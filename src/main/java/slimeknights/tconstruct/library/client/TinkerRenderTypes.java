@@ -1,6 +1,7 @@
 package slimeknights.tconstruct.library.client;
 
 import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.library.client.materials.MaterialSpriteAtlas;
 
 import java.util.OptionalDouble;
 
@@ -42,4 +43,17 @@ public class TinkerRenderTypes extends RenderLayer {
                     .transparency(TRANSLUCENT_TRANSPARENCY)
                     .cull(DISABLE_CULLING)
                     .build(false));
+
+    /**
+     * Render type for block quads using sprites from the {@link MaterialSpriteAtlas}, same as {@link RenderLayer#getTranslucent()} but bound to the material atlas
+     */
+    public static final RenderLayer MATERIAL_ATLAS_TRANSLUCENT = RenderLayer.of(
+            TConstruct.resourceString("material_atlas_translucent"), VertexFormats.POSITION_COLOR_TEXTURE_LIGHT_NORMAL, VertexFormat.DrawMode.QUADS, 2097152, true, true,
+            MultiPhaseParameters.builder()
+                    .lightmap(ENABLE_LIGHTMAP)
+                    .program(TRANSLUCENT_PROGRAM)
+                    .texture(new Texture(MaterialSpriteAtlas.LOCATION, false, false))
+                    .transparency(TRANSLUCENT_TRANSPARENCY)
+                    .target(TRANSLUCENT_TARGET)
+                    .build(true));
 }
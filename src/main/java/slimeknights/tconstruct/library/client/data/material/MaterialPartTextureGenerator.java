@@ -14,6 +14,7 @@ import slimeknights.tconstruct.library.client.data.material.GeneratorPartTexture
 import slimeknights.tconstruct.library.client.data.spritetransformer.ISpriteTransformer;
 import slimeknights.tconstruct.library.client.data.util.AbstractSpriteReader;
 import slimeknights.tconstruct.library.client.data.util.DataGenSpriteReader;
+import slimeknights.tconstruct.library.client.data.util.GeneratedSpriteCache;
 
 import org.jetbrains.annotations.Nullable;
 
@@ -23,6 +24,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 /**
  * Texture generator to generate textures for materials, supports adding a set of sprites to recolor, alongside a set of materials
@@ -97,14 +99,16 @@ public class MaterialPartTextureGenerator extends GenericTextureGenerator {
                 throw new IllegalStateException(materialProvider.getName() + " has no materials, must have at least one material to generate");
             }
             // want cross product of textures
-            Predicate<Identifier> shouldGenerate = path -> !this.spriteReader.exists(path);
+            List<SpriteRequest> requests = new ArrayList<>();
             for (MaterialSpriteInfo material : materials) {
                 for (PartSpriteInfo part : parts) {
                     if (material.supportStatType(part.getStatType()) || this.overrides.hasOverride(part.getStatType(), material.getTexture())) {
-                        generateSprite(this.spriteReader, material, part, shouldGenerate, saver, metaSaver);
+                        requests.add(new SpriteRequest(material, part));
                     }
                 }
             }
+            // datagen outputs are already skipped by the data cache when unchanged, and stale outputs are removed if not written
+            generateSprites(this.spriteReader, requests, path -> !this.spriteReader.exists(path), null, saver, metaSaver);
         }
         this.spriteReader.closeAll();
         this.partProvider.cleanCache();
@@ -122,43 +126,98 @@ public class MaterialPartTextureGenerator extends GenericTextureGenerator {
      * @param metaSaver      Function to save the animation metadata
      */
     public static void generateSprite(AbstractSpriteReader spriteReader, MaterialSpriteInfo material, PartSpriteInfo part, Predicate<Identifier> shouldGenerate, BiConsumer<Identifier, NativeImage> saver, BiConsumer<Identifier, JsonObject> metaSaver) {
-        // first step: see if this sprite has already been generated, if so nothing to do
-        // path format: pNamespace:pPath_mNamespace_mPath
-        Identifier partPath = part.getPath();
-        Identifier materialTexture = material.getTexture();
-        Identifier spritePath = new Identifier(partPath.getNamespace(),
-                partPath.getPath() + "_" + materialTexture.getNamespace() + "_" + materialTexture.getPath());
-
-        // image does not exist? first step is to find a base image
-        if (shouldGenerate.test(spritePath)) {
-            NativeImage base = null;
-            for (String fallback : material.getFallbacks()) {
-                base = part.getTexture(spriteReader, fallback);
-                if (base != null) {
-                    break;
+        generateSprites(spriteReader, List.of(new SpriteRequest(material, part)), shouldGenerate, null, saver, metaSaver);
+    }
+
+    /**
+     * Generates all the given sprites. Base images are read and results saved on the calling thread in request order, while the transformers run in parallel as they are the expensive part.
+     *
+     * @param spriteReader   Reader to find existing sprites
+     * @param requests       Material and part pairs to generate
+     * @param shouldGenerate Predicate to determine if the sprite should generate, given the local path to the sprite
+     * @param cache          Hashes from the last run, used to skip sprites whose inputs are unchanged. If null, all sprites passing the predicate generate
+     * @param saver          Function to save the images
+     * @param metaSaver      Function to save the animation metadata
+     * @return Number of sprites generated
+     */
+    public static int generateSprites(AbstractSpriteReader spriteReader, List<SpriteRequest> requests, Predicate<Identifier> shouldGenerate, @Nullable GeneratedSpriteCache cache,
+                                      BiConsumer<Identifier, NativeImage> saver, BiConsumer<Identifier, JsonObject> metaSaver) {
+        // first step: find the base image for each sprite that needs generating, reading is not thread safe
+        List<PendingSprite> pending = new ArrayList<>();
+        for (SpriteRequest request : requests) {
+            // path format: pNamespace:pPath_mNamespace_mPath
+            Identifier partPath = request.part.getPath();
+            Identifier materialTexture = request.material.getTexture();
+            Identifier spritePath = new Identifier(partPath.getNamespace(),
+                    partPath.getPath() + "_" + materialTexture.getNamespace() + "_" + materialTexture.getPath());
+            if (shouldGenerate.test(spritePath)) {
+                NativeImage base = null;
+                for (String fallback : request.material.getFallbacks()) {
+                    base = request.part.getTexture(spriteReader, fallback);
+                    if (base != null) {
+                        break;
+                    }
                 }
+                // no fallback existed, try the main one
+                if (base == null) {
+                    base = request.part.getTexture(spriteReader, "");
+                }
+                if (base == null) {
+                    throw new IllegalStateException("Missing sprite at " + partPath + ".png, cannot generate textures");
+                }
+                String hash = null;
+                if (cache != null) {
+                    hash = cache.hash(spriteReader, request.material.getTransformer(), base, request.part.isAllowAnimated());
+                    if (cache.isUnchanged(spritePath, hash)) {
+                        continue;
+                    }
+                }
+                pending.add(new PendingSprite(spritePath, request, base, hash));
             }
-            // no fallback existed, try the main one
-            if (base == null) {
-                base = part.getTexture(spriteReader, "");
-            }
-            if (base == null) {
-                throw new IllegalStateException("Missing sprite at " + partPath + ".png, cannot generate textures");
+        }
+
+        // transform in parallel, images are tracked even on failure so they are closed with the reader
+        NativeImage[] transformed = new NativeImage[pending.size()];
+        try {
+            IntStream.range(0, transformed.length).parallel().forEach(i -> {
+                PendingSprite sprite = pending.get(i);
+                transformed[i] = sprite.request.material.getTransformer().transformCopy(sprite.base, sprite.request.part.isAllowAnimated());
+            });
+        } finally {
+            for (NativeImage image : transformed) {
+                if (image != null) {
+                    spriteReader.track(image);
+                }
             }
-            // successfully found a texture, now transform and save
-            ISpriteTransformer transformer = material.getTransformer();
-            NativeImage transformed = transformer.transformCopy(base, part.isAllowAnimated());
-            spriteReader.track(transformed);
-            saver.accept(spritePath, transformed);
-            if (part.isAllowAnimated()) {
-                JsonObject meta = transformer.animationMeta(base);
+        }
+
+        // finally, save in order
+        for (int i = 0; i < transformed.length; i++) {
+            PendingSprite sprite = pending.get(i);
+            saver.accept(sprite.path, transformed[i]);
+            if (sprite.request.part.isAllowAnimated()) {
+                JsonObject meta = sprite.request.material.getTransformer().animationMeta(sprite.base);
                 if (meta != null) {
-                    metaSaver.accept(spritePath, meta);
+                    metaSaver.accept(sprite.path, meta);
                 }
             }
+            if (cache != null && sprite.hash != null) {
+                cache.update(sprite.path, sprite.hash);
+            }
         }
+        return transformed.length;
     }
 
+    /**
+     * Sprite to generate from a material and part
+     */
+    public record SpriteRequest(MaterialSpriteInfo material, PartSpriteInfo part) {}
+
+    /**
+     * Sprite with its base image found, waiting to transform
+     */
+    private record PendingSprite(Identifier path, SpriteRequest request, NativeImage base, @Nullable String hash) {}
+
 
     /* Static callbacks, handled this way as the event bus is a pain to use during datagen */
 
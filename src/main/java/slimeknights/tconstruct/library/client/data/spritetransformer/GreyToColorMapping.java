@@ -8,8 +8,6 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.google.gson.JsonSerializationContext;
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
 import net.minecraft.util.Identifier;
 import slimeknights.mantle.util.JsonHelper;
 import slimeknights.tconstruct.TConstruct;
@@ -30,13 +28,15 @@ import static net.minecraft.client.texture.NativeImage.getR;
 /**
  * Color mcom.mojang.blaze3d.platform.NativeImager each value
  */
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class GreyToColorMapping implements IColorMapping {
     public static final Identifier NAME = TConstruct.getResource("grey_to_color");
     public static final Deserializer DESERIALIZER = new Deserializer();
 
     private final List<ColorMapping> mappings;
-    private final Integer[] recolorCache = new Integer[256];
+    /**
+     * Color for each grey value, computed up front so mapping is a lookup and the mapping is safe to use from multiple threads
+     */
+    private final int[] colorLut = new int[256];
 
     /**
      * Function to interpolate color values of two colors
@@ -57,18 +57,21 @@ public class GreyToColorMapping implements IColorMapping {
      */
     private static final ToIntFunction<ColorMapping> GET_GREY = ColorMapping::grey;
 
+    protected GreyToColorMapping(List<ColorMapping> mappings) {
+        this.mappings = mappings;
+        for (int grey = 0; grey < 256; grey++) {
+            colorLut[grey] = getNearestByGrey(mappings, GET_GREY, grey, INTERPOLATE_COLORS);
+        }
+    }
+
     /**
-     * Gets the color for the given greyscale from the palette, using the cache
+     * Gets the color for the given greyscale from the palette
      *
      * @param grey Grey value
      * @return Color
      */
     public int getColorForGrey(int grey) {
-        if (recolorCache[grey] == null) {
-            int calculated = getNearestByGrey(mappings, GET_GREY, grey, INTERPOLATE_COLORS);
-            recolorCache[grey] = calculated;
-        }
-        return recolorCache[grey];
+        return colorLut[grey];
     }
 
     @Override
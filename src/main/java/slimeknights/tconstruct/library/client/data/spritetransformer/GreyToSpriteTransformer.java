@@ -30,6 +30,7 @@ import org.jetbrains.annotations.Nullable;
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.ToIntFunction;
@@ -39,7 +40,6 @@ import static net.minecraft.client.texture.NativeImage.getA;
 /**
  * Supports including sprites as "part of the palette"
  */
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class GreyToSpriteTransformer implements ISpriteTransformer {
     public static final Identifier NAME = TConstruct.getResource("grey_to_sprite");
     public static final Deserializer DESERIALIZER = new Deserializer();
@@ -56,7 +56,7 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
     /**
      * List of all sprite mappings with cached data that need to be cleared
      */
-    private static final List<SpriteMapping> MAPPINGS_TO_CLEAR = new ArrayList<>();
+    private static final List<SpriteMapping> MAPPINGS_TO_CLEAR = Collections.synchronizedList(new ArrayList<>());
 
     /**
      * List of sprites to try
@@ -64,9 +64,17 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
     private final List<SpriteMapping> sprites;
 
     /**
-     * Cache of the sprites to use for each color value
+     * Sprites to use for each grey value, computed up front so the transformer is safe to use from multiple threads
      */
-    private final SpriteRange[] foundSpriteCache = new SpriteRange[256];
+    private final SpriteRange[] spriteRanges = new SpriteRange[256];
+    /**
+     * Color for each grey value whose range contains no sprites, so most pixels skip interpolating
+     */
+    private final int[] colorLut = new int[256];
+    /**
+     * If true, the grey value uses the color from {@link #colorLut}
+     */
+    private final boolean[] solidColor = new boolean[256];
 
     /**
      * Constructor for search
@@ -77,14 +85,23 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
      */
     private static final ToIntFunction<SpriteMapping> GET_GREY = SpriteMapping::getGrey;
 
+    protected GreyToSpriteTransformer(List<SpriteMapping> sprites) {
+        this.sprites = sprites;
+        for (int grey = 0; grey < 256; grey++) {
+            SpriteRange range = GreyToColorMapping.getNearestByGrey(sprites, GET_GREY, grey, SPRITE_RANGE);
+            this.spriteRanges[grey] = range;
+            if (range.isSolid()) {
+                this.solidColor[grey] = true;
+                this.colorLut[grey] = range.getColor(0, 0, grey);
+            }
+        }
+    }
+
     /**
      * Gets the sprite for the given color
      */
     protected SpriteRange getSpriteRange(int grey) {
-        if (this.foundSpriteCache[grey] == null) {
-            this.foundSpriteCache[grey] = GreyToColorMapping.getNearestByGrey(this.sprites, GET_GREY, grey, SPRITE_RANGE);
-        }
-        return this.foundSpriteCache[grey];
+        return this.spriteRanges[grey];
     }
 
     /**
@@ -97,19 +114,27 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
             return 0x00000000;
         }
         int grey = GreyToColorMapping.getGrey(color);
-        int newColor = this.getSpriteRange(grey).getColor(x, y, grey);
+        int newColor = this.solidColor[grey] ? this.colorLut[grey] : this.spriteRanges[grey].getColor(x, y, grey);
         return GreyToColorMapping.scaleColor(color, newColor, grey);
     }
 
     @Override
     public void transform(NativeImage image, boolean allowAnimated) {
-        for (int x = 0; x < image.getWidth(); x++) {
-            for (int y = 0; y < image.getHeight(); y++) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        // row by row to match the image memory layout
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
                 image.setColor(x, y, this.getNewColor(image.getColor(x, y), x, y));
             }
         }
     }
 
+    @Override
+    public List<Identifier> getTextureDependencies() {
+        return this.sprites.stream().map(mapping -> mapping.path).filter(Objects::nonNull).distinct().toList();
+    }
+
     @Override
     public int getFallbackColor() {
         return this.getSpriteRange(216).getAverage(216);
@@ -282,10 +307,10 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
         private transient NativeImage image = null;
 
         /**
-         * Gets the image for this mapping
+         * Gets the image for this mapping, synchronized as sprites may be generated in parallel
          */
         @Nullable
-        private NativeImage getImage() {
+        private synchronized NativeImage getImage() {
             if (this.path != null && this.image == null) {
                 if (READER == null) {
                     throw new IllegalStateException("Cannot get image for a sprite without reader");
@@ -372,6 +397,13 @@ public class GreyToSpriteTransformer implements ISpriteTransformer {
      * Result from a sprite search for a given color
      */
     protected record SpriteRange(@Nullable SpriteMapping before, @Nullable SpriteMapping after) {
+        /**
+         * Checks if this range only uses colors, meaning the result does not depend on the position
+         */
+        public boolean isSolid() {
+            return (this.before == null || this.before.path == null) && (this.after == null || this.after.path == null);
+        }
+
         /**
          * Gets the color of this range
          */
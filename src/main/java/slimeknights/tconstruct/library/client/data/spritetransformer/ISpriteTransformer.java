@@ -7,6 +7,9 @@ import slimeknights.mantle.data.gson.GenericRegisteredSerializer.IJsonSerializab
 
 import org.jetbrains.annotations.Nullable;
 import net.minecraft.client.texture.NativeImage;
+import net.minecraft.util.Identifier;
+
+import java.util.List;
 
 /**
  * Interface for a function that transforms a sprite into another sprite
@@ -32,6 +35,15 @@ public interface ISpriteTransformer extends IJsonSerializable {
         return -1;
     }
 
+    /**
+     * Gets the textures read by this transformer besides the image being transformed, used to detect when a previously generated sprite is outdated
+     *
+     * @return Texture paths relative to the textures folder, without the extension
+     */
+    default List<Identifier> getTextureDependencies() {
+        return List.of();
+    }
+
     /**
      * Copies the image. Overridable version of {@link #copyImage(NativeImage)} to make it easier to wrap a transformer.
      *
@@ -12,6 +12,8 @@ import net.minecraft.client.texture.NativeImage;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
 
+import java.util.List;
+
 /**
  * Transformer that shifts the sprite by the given offset
  *
@@ -69,6 +71,11 @@ public record OffsettingSpriteTransformer(@Nullable ISpriteTransformer base, int
         }
     }
 
+    @Override
+    public List<Identifier> getTextureDependencies() {
+        return this.base != null ? this.base.getTextureDependencies() : List.of();
+    }
+
     @Override
     public NativeImage copyImage(NativeImage image, boolean allowAnimated) {
         return this.base != null ? this.base.copyImage(image, allowAnimated) : ISpriteTransformer.copyImage(image);
@@ -8,6 +8,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -15,7 +16,10 @@ import java.util.List;
  */
 @RequiredArgsConstructor
 public abstract class AbstractSpriteReader {
-    protected final List<NativeImage> openedImages = new ArrayList<>();
+    /**
+     * Images to close with this reader, synchronized as sprite transformers may read images while generating in parallel
+     */
+    protected final List<NativeImage> openedImages = Collections.synchronizedList(new ArrayList<>());
 
     /**
      * Checks if an image exists in the given location
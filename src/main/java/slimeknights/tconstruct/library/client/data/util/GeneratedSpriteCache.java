@@ -0,0 +1,173 @@
+package slimeknights.tconstruct.library.client.data.util;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.JsonHelper;
+import slimeknights.tconstruct.library.client.data.spritetransformer.ISpriteTransformer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Predicate;
+
+/**
+ * Record of the inputs used for each generated sprite, so sprites whose base image and transformer are unchanged since the last run can be skipped.
+ * Each entry maps the generated sprite to a hash of the transformer JSON, the base image pixels, the pixels of any textures the transformer reads, and whether the sprite may be animated.
+ */
+@Log4j2
+public class GeneratedSpriteCache {
+    /**
+     * Gson instance for serializing transformers
+     */
+    private final Gson gson;
+    /**
+     * File storing the hashes between runs
+     */
+    private final Path file;
+    /**
+     * Checks if the output for a sprite still exists, if not the sprite is generated regardless of the hash
+     */
+    private final Predicate<Identifier> outputExists;
+    /**
+     * Hash of the inputs for each sprite
+     */
+    private final Map<Identifier, String> hashes = new HashMap<>();
+    /**
+     * Hash of each texture read by transformers, as palette sprites are shared by many materials
+     */
+    private final Map<Identifier, HashCode> dependencyHashes = new HashMap<>();
+
+    /**
+     * Creates a new cache, loading hashes from the previous run if present
+     *
+     * @param gson         Gson instance able to serialize transformers
+     * @param file         File storing the hashes between runs
+     * @param outputExists Checks if the output for a sprite still exists
+     */
+    public GeneratedSpriteCache(Gson gson, Path file, Predicate<Identifier> outputExists) {
+        this.gson = gson;
+        this.file = file;
+        this.outputExists = outputExists;
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file)) {
+                for (Entry<String, JsonElement> entry : JsonHelper.deserialize(reader).entrySet()) {
+                    Identifier location = Identifier.tryParse(entry.getKey());
+                    if (location != null) {
+                        hashes.put(location, entry.getValue().getAsString());
+                    }
+                }
+            } catch (IOException | JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+                log.warn("Failed to read generated sprite hashes from {}, regenerating all sprites", file, e);
+                hashes.clear();
+            }
+        }
+    }
+
+    /**
+     * Adds the size and pixels of the image to the hasher
+     */
+    private static void putImage(Hasher hasher, NativeImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        hasher.putInt(width).putInt(height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                hasher.putInt(image.getColor(x, y));
+            }
+        }
+    }
+
+    /**
+     * Gets the hash of a texture read by a transformer
+     */
+    private HashCode hashDependency(AbstractSpriteReader reader, Identifier texture) {
+        return dependencyHashes.computeIfAbsent(texture, path -> {
+            Hasher hasher = Hashing.sha1().newHasher();
+            NativeImage image = reader.readIfExists(path);
+            if (image == null) {
+                hasher.putBoolean(false);
+            } else {
+                try (image) {
+                    hasher.putBoolean(true);
+                    putImage(hasher, image);
+                }
+            }
+            return hasher.hash();
+        });
+    }
+
+    /**
+     * Computes the hash of the inputs for a sprite
+     *
+     * @param reader        Reader for textures used by the transformer
+     * @param transformer   Transformer generating the sprite
+     * @param base          Base image
+     * @param allowAnimated If true, the sprite may be animated
+     * @return Hash string
+     */
+    public String hash(AbstractSpriteReader reader, ISpriteTransformer transformer, NativeImage base, boolean allowAnimated) {
+        Hasher hasher = Hashing.sha1().newHasher();
+        hasher.putString(gson.toJson(transformer, ISpriteTransformer.class), StandardCharsets.UTF_8);
+        hasher.putBoolean(allowAnimated);
+        putImage(hasher, base);
+        // palette sprites are referenced by path, so editing one must change the hash
+        for (Identifier dependency : transformer.getTextureDependencies()) {
+            hasher.putString(dependency.toString(), StandardCharsets.UTF_8);
+            hasher.putBytes(hashDependency(reader, dependency).asBytes());
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Checks if the sprite was generated from the same inputs last run
+     *
+     * @param location Sprite location
+     * @param hash     Hash of the current inputs
+     * @return True if the sprite can be skipped
+     */
+    public boolean isUnchanged(Identifier location, String hash) {
+        return hash.equals(hashes.get(location)) && outputExists.test(location);
+    }
+
+    /**
+     * Records the inputs used to generate a sprite
+     *
+     * @param location Sprite location
+     * @param hash     Hash of the inputs
+     */
+    public void update(Identifier location, String hash) {
+        hashes.put(location, hash);
+    }
+
+    /**
+     * Saves the hashes for the next run
+     */
+    public void save() {
+        JsonObject json = new JsonObject();
+        hashes.entrySet().stream()
+              .sorted(Entry.comparingByKey())
+              .forEach(entry -> json.addProperty(entry.getKey().toString(), entry.getValue()));
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                writer.write(gson.toJson(json));
+            }
+        } catch (IOException e) {
+            log.error("Couldn't save generated sprite hashes to {}", file, e);
+        }
+    }
+}
@@ -7,6 +7,8 @@ import net.minecraft.client.texture.Sprite;
 import net.minecraft.client.util.SpriteIdentifier;
 import net.minecraft.screen.PlayerScreenHandler;
 import net.minecraft.util.Identifier;
+import slimeknights.tconstruct.common.config.Config;
+import slimeknights.tconstruct.library.client.data.spritetransformer.ISpriteTransformer;
 import slimeknights.tconstruct.library.materials.definition.MaterialVariantId;
 
 import org.jetbrains.annotations.Nullable;
@@ -35,21 +37,32 @@ public class MaterialRenderInfo {
      * Extra light to add to the material, allows some materials to appear to glow slightly
      */
     private final int luminosity; // TODO: rename to emissivity
+    /**
+     * Transformer to generate the material texture from a part texture if not in a resource pack, null if it cannot be generated
+     */
+    @Nullable
+    private final ISpriteTransformer generator;
 
     /**
      * Tries to get a sprite for the given texture
      *
      * @param base         Base texture
      * @param suffix       Sprite suffix
+     * @param generator    Transformer to generate the sprite if not stitched, null if it cannot be generated
      * @param spriteGetter Logic to get the sprite
      * @return Sprite if valid, null if missing
      */
     @Nullable
-    private Sprite trySprite(SpriteIdentifier base, String suffix, Function<SpriteIdentifier, Sprite> spriteGetter) {
-        Sprite sprite = spriteGetter.apply(getMaterial(base.getTextureId(), suffix));
-        if (!MissingSprite.getMissingSpriteId().equals(sprite.getAtlasId())) {
+    private Sprite trySprite(SpriteIdentifier base, String suffix, @Nullable ISpriteTransformer generator, Function<SpriteIdentifier, Sprite> spriteGetter) {
+        SpriteIdentifier material = getMaterial(base.getTextureId(), suffix);
+        Sprite sprite = spriteGetter.apply(material);
+        if (!MissingSprite.getMissingSpriteId().equals(sprite.getContents().getId())) {
             return sprite;
         }
+        // textures for dynamic models are not stitched, so load them on demand
+        if (Config.CLIENT.dynamicMaterialAtlas.get()) {
+            return MaterialSpriteAtlas.INSTANCE.getSprite(material.getTextureId(), base.getTextureId(), generator);
+        }
         return null;
     }
 
@@ -63,13 +76,13 @@ public class MaterialRenderInfo {
     public TintedSprite getSprite(SpriteIdentifier base, Function<SpriteIdentifier, Sprite> spriteGetter) {
         Sprite sprite;
         if (this.texture != null) {
-            sprite = this.trySprite(base, getSuffix(this.texture), spriteGetter);
+            sprite = this.trySprite(base, getSuffix(this.texture), this.generator, spriteGetter);
             if (sprite != null) {
                 return new TintedSprite(sprite, -1, this.getLuminosity());
             }
         }
         for (String fallback : this.fallbacks) {
-            sprite = this.trySprite(base, fallback, spriteGetter);
+            sprite = this.trySprite(base, fallback, null, spriteGetter);
             if (sprite != null) {
                 return new TintedSprite(sprite, this.vertexColor, this.getLuminosity());
             }
@@ -143,6 +143,8 @@ public class MaterialRenderInfoLoader implements IEarlySafeManagerReloadListener
         }
         // store the list immediately, otherwise it is not in place in time for models to load
         this.renderInfos = map;
+        // sprites from the old render infos are discarded along with the models using them
+        MaterialSpriteAtlas.INSTANCE.clear();
         log.debug("Loaded material render infos: {}", Util.toIndentedStringList(map.keySet()));
         log.info("{} material render infos loaded", map.size());
     }
@@ -174,6 +176,11 @@ public class MaterialRenderInfoLoader implements IEarlySafeManagerReloadListener
         if (fallback == null) {
             fallback = new String[0];
         }
-        return new MaterialRenderInfo(material, texture, fallback, color, json.getLuminosity());
+        // generator lets the texture be created on demand if missing from resource packs
+        ISpriteTransformer generator = null;
+        if (json.getGenerator() != null) {
+            generator = json.getGenerator().getTransformer();
+        }
+        return new MaterialRenderInfo(material, texture, fallback, color, json.getLuminosity(), generator);
     }
 }
@@ -0,0 +1,399 @@
+package slimeknights.tconstruct.library.client.materials;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.mojang.blaze3d.systems.RenderSystem;
+import lombok.extern.log4j.Log4j2;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.resource.metadata.AnimationResourceMetadata;
+import net.minecraft.client.texture.AbstractTexture;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.client.texture.SpriteContents;
+import net.minecraft.client.texture.SpriteDimensions;
+import net.minecraft.client.texture.TextureManager;
+import net.minecraft.client.texture.TextureTickListener;
+import net.minecraft.client.texture.TextureUtil;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.MathHelper;
+import net.minecraftforge.client.RenderTypeGroup;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.library.client.TinkerRenderTypes;
+import slimeknights.tconstruct.library.client.data.material.MaterialPartTextureGenerator;
+import slimeknights.tconstruct.library.client.data.spritetransformer.ISpriteTransformer;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+/**
+ * Texture holding material sprites for dynamic material models, filled as each material and part combination is first displayed rather than stitching every combination into the block atlas.
+ * Sprites are read from resource packs if present, otherwise generated from the material's generator transformer. Generated sprites are cached on disk keyed by the transformer config and base texture.
+ * <p>
+ * Baked quads store their UVs, so the atlas has a fixed size and is only cleared when material render infos reload, at which point all models using it are rebaked.
+ */
+@Log4j2
+public class MaterialSpriteAtlas extends AbstractTexture implements TextureTickListener {
+    /**
+     * Location of the atlas texture
+     */
+    public static final Identifier LOCATION = TConstruct.getResource("textures/atlas/materials.png");
+    /**
+     * Render types for quads using sprites from this atlas
+     */
+    public static final RenderTypeGroup RENDER_TYPES = new RenderTypeGroup(TinkerRenderTypes.MATERIAL_ATLAS_TRANSLUCENT, RenderLayer.getEntityTranslucentCull(LOCATION));
+    /**
+     * Width and height of the atlas
+     */
+    private static final int SIZE = 2048;
+    /**
+     * Shared atlas instance
+     */
+    public static final MaterialSpriteAtlas INSTANCE = new MaterialSpriteAtlas();
+
+    /**
+     * Sprites loaded so far, empty if the texture does not exist and cannot be generated
+     */
+    private final Map<Identifier, Optional<Sprite>> sprites = new HashMap<>();
+    /**
+     * Animations for animated sprites in the atlas
+     */
+    private final List<Sprite.TickableAnimation> animations = new ArrayList<>();
+    /**
+     * Position of the next sprite on the current row
+     */
+    private int rowX = 0;
+    /**
+     * Top of the current row
+     */
+    private int rowY = 0;
+    /**
+     * Height of the tallest sprite in the current row
+     */
+    private int rowHeight = 0;
+    /**
+     * If true, the atlas ran out of space, used to log only once
+     */
+    private boolean full = false;
+    /**
+     * If false, the sprite transformers need to be set up with the current resource manager before generating
+     */
+    private boolean generatorsReady = false;
+    /**
+     * Incremented each time the atlas is cleared, so uploads queued before clearing are skipped
+     */
+    private int generation = 0;
+    /**
+     * If true, texture memory was allocated for the atlas. Only accessed on the render thread
+     */
+    private boolean allocated = false;
+
+    private MaterialSpriteAtlas() {
+    }
+
+    /**
+     * Gets the render types to use for a quad with the given sprite
+     *
+     * @param defaultType Render types for sprites in the block atlas
+     * @param sprite      Quad sprite
+     * @return Render types for the sprite
+     */
+    public static RenderTypeGroup getRenderType(RenderTypeGroup defaultType, Sprite sprite) {
+        return LOCATION.equals(sprite.getAtlasId()) ? RENDER_TYPES : defaultType;
+    }
+
+    /**
+     * Gets the path to the PNG for the given texture
+     */
+    private static Identifier getPath(Identifier texture) {
+        return new Identifier(texture.getNamespace(), "textures/" + texture.getPath() + ".png");
+    }
+
+    /**
+     * Gets the folder for generated sprites
+     */
+    private static Path getCacheFolder() {
+        return MinecraftClient.getInstance().runDirectory.toPath().resolve("cache").resolve(TConstruct.MOD_ID).resolve("material_sprites");
+    }
+
+    /**
+     * Gets the cache key for a sprite generated from the given base image.
+     * Textures read by the generator such as palette sprites are included, so editing them in a resource pack regenerates the sprite.
+     */
+    private static String getCacheKey(ResourceManager manager, ISpriteTransformer generator, byte[] base) throws IOException {
+        Hasher hasher = Hashing.sha256().newHasher()
+                               .putString(MaterialRenderInfoLoader.GSON.toJson(generator, ISpriteTransformer.class), StandardCharsets.UTF_8)
+                               .putBytes(base);
+        for (Identifier dependency : generator.getTextureDependencies()) {
+            hasher.putString(dependency.toString(), StandardCharsets.UTF_8);
+            Optional<Resource> resource = manager.getResource(getPath(dependency));
+            if (resource.isPresent()) {
+                try (InputStream stream = resource.get().getInputStream()) {
+                    hasher.putBytes(stream.readAllBytes());
+                }
+            } else {
+                hasher.putBoolean(false);
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Gets a material sprite, loading or generating it on first use.
+     * Models bake on worker threads, so loading and generating happen outside the lock and only adding to the atlas is synchronized.
+     *
+     * @param texture   Name of the material texture
+     * @param base      Base texture, used to generate the material texture if it is not in a resource pack
+     * @param generator Transformer to generate the texture, null if it cannot be generated
+     * @return Sprite, or null if the texture does not exist and cannot be generated
+     */
+    @Nullable
+    public Sprite getSprite(Identifier texture, Identifier base, @Nullable ISpriteTransformer generator) {
+        int started;
+        synchronized (this) {
+            Optional<Sprite> cached = sprites.get(texture);
+            //noinspection OptionalAssignedToNull
+            if (cached != null) {
+                return cached.orElse(null);
+            }
+            if (full) {
+                sprites.put(texture, Optional.empty());
+                return null;
+            }
+            started = generation;
+        }
+        ResourceManager manager = MinecraftClient.getInstance().getResourceManager();
+        LoadedImage loaded = readImage(manager, texture);
+        if (loaded == null && generator != null) {
+            loaded = generateImage(manager, texture, base, generator);
+        }
+        synchronized (this) {
+            // the atlas was cleared while loading, so the image may be from old resources
+            if (started != generation) {
+                if (loaded != null) {
+                    loaded.image.close();
+                }
+                return null;
+            }
+            // another thread may have loaded the same texture in the meantime, keep the first so models share one sprite
+            Optional<Sprite> cached = sprites.get(texture);
+            //noinspection OptionalAssignedToNull
+            if (cached != null) {
+                if (loaded != null) {
+                    loaded.image.close();
+                }
+                return cached.orElse(null);
+            }
+            Sprite sprite = loaded == null ? null : addSprite(texture, loaded.image, loaded.metadata);
+            sprites.put(texture, Optional.ofNullable(sprite));
+            return sprite;
+        }
+    }
+
+    /**
+     * Reads a sprite image from resource packs
+     *
+     * @return Image, or null if missing
+     */
+    @Nullable
+    private static LoadedImage readImage(ResourceManager manager, Identifier texture) {
+        Optional<Resource> resource = manager.getResource(getPath(texture));
+        if (resource.isEmpty()) {
+            return null;
+        }
+        try {
+            NativeImage image;
+            try (InputStream stream = resource.get().getInputStream()) {
+                image = NativeImage.read(stream);
+            }
+            AnimationResourceMetadata metadata = resource.get().getMetadata().decode(AnimationResourceMetadata.READER).orElse(AnimationResourceMetadata.EMPTY);
+            return new LoadedImage(image, metadata);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to read material texture {}", texture, e);
+            return null;
+        }
+    }
+
+    /**
+     * Sets up the sprite transformers with the resource manager if needed
+     */
+    private synchronized void prepareGenerators(ResourceManager manager) {
+        if (!generatorsReady) {
+            generatorsReady = true;
+            MaterialPartTextureGenerator.runCallbacks(null, manager);
+        }
+    }
+
+    /**
+     * Generates a sprite image from the base texture, using the disk cache if possible
+     *
+     * @return Image, or null if the base is missing or generating failed
+     */
+    @Nullable
+    private LoadedImage generateImage(ResourceManager manager, Identifier texture, Identifier base, ISpriteTransformer generator) {
+        Optional<Resource> resource = manager.getResource(getPath(base));
+        if (resource.isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] bytes;
+            try (InputStream stream = resource.get().getInputStream()) {
+                bytes = stream.readAllBytes();
+            }
+            Path cached = getCacheFolder().resolve(getCacheKey(manager, generator, bytes) + ".png");
+            if (Files.exists(cached)) {
+                try (InputStream stream = Files.newInputStream(cached)) {
+                    return new LoadedImage(NativeImage.read(stream), AnimationResourceMetadata.EMPTY);
+                } catch (IOException e) {
+                    log.warn("Failed to read cached material texture {}, regenerating", cached, e);
+                }
+            }
+            // transformers with sprite mappings read from the resource manager
+            prepareGenerators(manager);
+            NativeImage image;
+            try (NativeImage baseImage = NativeImage.read(bytes)) {
+                image = generator.transformCopy(baseImage, false);
+            }
+            try {
+                Files.createDirectories(cached.getParent());
+                image.writeTo(cached);
+            } catch (IOException e) {
+                log.warn("Failed to cache generated material texture {}", texture, e);
+            }
+            return new LoadedImage(image, AnimationResourceMetadata.EMPTY);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to generate material texture {}", texture, e);
+            return null;
+        }
+    }
+
+    /**
+     * Places the image in the atlas and uploads it
+     *
+     * @param texture  Texture name
+     * @param image    Image, owned by the atlas after this call
+     * @param metadata Animation metadata for the image
+     * @return Sprite, or null if it does not fit
+     */
+    @Nullable
+    private Sprite addSprite(Identifier texture, NativeImage image, AnimationResourceMetadata metadata) {
+        SpriteDimensions size = metadata.getSize(image.getWidth(), image.getHeight());
+        if (!MathHelper.isMultipleOf(image.getWidth(), size.width()) || !MathHelper.isMultipleOf(image.getHeight(), size.height())) {
+            log.error("Image {} size {},{} is not multiple of frame size {},{}", texture, image.getWidth(), image.getHeight(), size.width(), size.height());
+            image.close();
+            return null;
+        }
+        // simple row packing, material sprites are almost all the same size so little space is wasted
+        if (rowX + size.width() > SIZE) {
+            rowY += rowHeight;
+            rowX = 0;
+            rowHeight = 0;
+        }
+        if (rowY + size.height() > SIZE) {
+            full = true;
+            log.warn("Material sprite atlas is full, remaining material textures will use tinted fallbacks until resources reload");
+            image.close();
+            return null;
+        }
+        Sprite sprite = new Sprite(LOCATION, new SpriteContents(texture, size, image, metadata), SIZE, SIZE, rowX, rowY);
+        rowX += size.width();
+        rowHeight = Math.max(rowHeight, size.height());
+        // models may be baked off the render thread, the sprite is usable before upload as quads just store UVs
+        int current = generation;
+        if (RenderSystem.isOnRenderThread()) {
+            upload(sprite, current);
+        } else {
+            RenderSystem.recordRenderCall(() -> upload(sprite, current));
+        }
+        return sprite;
+    }
+
+    /**
+     * Uploads a sprite to the atlas, must be called on the render thread
+     */
+    private synchronized void upload(Sprite sprite, int uploadGeneration) {
+        if (uploadGeneration != generation) {
+            return;
+        }
+        if (!allocated) {
+            MinecraftClient.getInstance().getTextureManager().registerTexture(LOCATION, this);
+        }
+        bindTexture();
+        sprite.upload();
+        Sprite.TickableAnimation animation = sprite.createAnimation();
+        if (animation != null) {
+            animations.add(animation);
+        }
+    }
+
+    /**
+     * Clears all sprites, called when material render infos reload as the models using them are rebaked
+     */
+    public synchronized void clear() {
+        List<Sprite> oldSprites = sprites.values().stream().flatMap(Optional::stream).toList();
+        List<Sprite.TickableAnimation> oldAnimations = List.copyOf(animations);
+        sprites.clear();
+        animations.clear();
+        rowX = 0;
+        rowY = 0;
+        rowHeight = 0;
+        full = false;
+        generatorsReady = false;
+        generation++;
+        // images are closed on the render thread, after any uploads queued for them
+        if (!oldSprites.isEmpty()) {
+            RenderSystem.recordRenderCall(() -> {
+                oldAnimations.forEach(Sprite.TickableAnimation::close);
+                oldSprites.forEach(sprite -> sprite.getContents().close());
+            });
+        }
+    }
+
+    /**
+     * Marks the sprite transformers as needing to be set up again, called when something else changes their resource manager
+     */
+    public synchronized void resetGenerators() {
+        generatorsReady = false;
+    }
+
+    @Override
+    public void load(ResourceManager manager) {
+        if (!allocated) {
+            allocated = true;
+            TextureUtil.prepareImage(getGlId(), 0, SIZE, SIZE);
+        }
+    }
+
+    @Override
+    public void registerTexture(TextureManager textureManager, ResourceManager resourceManager, Identifier id, Executor executor) {
+        // contents are managed by this class, reloading would discard sprites still in use
+    }
+
+    @Override
+    public synchronized void tick() {
+        if (!animations.isEmpty()) {
+            bindTexture();
+            for (Sprite.TickableAnimation animation : animations) {
+                animation.tick();
+            }
+        }
+    }
+
+    /**
+     * Image loaded for a sprite, not yet placed in the atlas
+     */
+    private record LoadedImage(NativeImage image, AnimationResourceMetadata metadata) {}
+}
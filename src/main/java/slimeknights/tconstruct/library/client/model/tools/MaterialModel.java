@@ -32,6 +32,7 @@ import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfo;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfo.TintedSprite;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfoLoader;
+import slimeknights.tconstruct.library.client.materials.MaterialSpriteAtlas;
 import slimeknights.tconstruct.library.client.model.DynamicTextureLoader;
 import slimeknights.tconstruct.library.materials.definition.IMaterial;
 import slimeknights.tconstruct.library.materials.definition.MaterialVariantId;
@@ -90,8 +91,11 @@ public class MaterialModel implements IUnbakedGeometry<MaterialModel> {
             // texture should exist in item/tool, or the validator cannot handle them
             Predicate<SpriteIdentifier> textureAdder = DynamicTextureLoader.getTextureAdder(allTextures, Config.CLIENT.logMissingMaterialTextures.get());
             // if no specific material is set, load all materials as dependencies. If just one material, use just that one
+            // with the dynamic material atlas, materials for dynamic models are loaded when first displayed instead
             if (material == null) {
-                MaterialRenderInfoLoader.INSTANCE.getAllRenderInfos().forEach(info -> info.getTextureDependencies(textureAdder, texture));
+                if (!Config.CLIENT.dynamicMaterialAtlas.get()) {
+                    MaterialRenderInfoLoader.INSTANCE.getAllRenderInfos().forEach(info -> info.getTextureDependencies(textureAdder, texture));
+                }
             } else {
                 MaterialRenderInfoLoader.INSTANCE.getRenderInfo(material).ifPresent(info -> info.getTextureDependencies(textureAdder, texture));
             }
@@ -116,6 +120,21 @@ public class MaterialModel implements IUnbakedGeometry<MaterialModel> {
         return new TintedSprite(spriteGetter.apply(texture), -1, 0);
     }
 
+    /**
+     * Gets the sprite to use for particles from a material sprite. Particles always render from the block atlas, so sprites from the dynamic material atlas use the base texture
+     *
+     * @param spriteGetter Sprite getter instance
+     * @param texture      Base texture
+     * @param sprite       Material sprite
+     * @return Particle sprite
+     */
+    public static Sprite getParticleSprite(Function<SpriteIdentifier, Sprite> spriteGetter, SpriteIdentifier texture, TintedSprite sprite) {
+        if (MaterialSpriteAtlas.LOCATION.equals(sprite.sprite().getAtlasId())) {
+            return spriteGetter.apply(texture);
+        }
+        return sprite.sprite();
+    }
+
     /**
      * Gets quads for the given material variant of the texture
      *
@@ -144,10 +163,11 @@ public class MaterialModel implements IUnbakedGeometry<MaterialModel> {
      * @return Baked model
      */
     private static BakedModel bakeInternal(JsonUnbakedModel owner, Function<SpriteIdentifier, Sprite> spriteGetter, AffineTransformation transform, MaterialVariantId material, int index, ModelOverrideList overrides, boolean b) {
-        TintedSprite materialSprite = getMaterialSprite(spriteGetter, owner.resolveSprite("texture"), material);
-        CompositeModel.Baked.Builder builder = CompositeModel.Baked.builder(owner, b, materialSprite.sprite(), overrides, owner.getTransformations());
+        SpriteIdentifier texture = owner.resolveSprite("texture");
+        TintedSprite materialSprite = getMaterialSprite(spriteGetter, texture, material);
+        CompositeModel.Baked.Builder builder = CompositeModel.Baked.builder(owner, b, getParticleSprite(spriteGetter, texture, materialSprite), overrides, owner.getTransformations());
         // TODO: let material choose its render type
-        builder.addQuads(MantleItemLayerModel.getDefaultRenderType(owner), MantleItemLayerModel.getQuadsForSprite(materialSprite.color(), index, materialSprite.sprite(), transform, materialSprite.emissivity()));
+        builder.addQuads(MaterialSpriteAtlas.getRenderType(MantleItemLayerModel.getDefaultRenderType(owner), materialSprite.sprite()), MantleItemLayerModel.getQuadsForSprite(materialSprite.color(), index, materialSprite.sprite(), transform, materialSprite.emissivity()));
         return builder.build();
     }
 
@@ -2,12 +2,12 @@ package slimeknights.tconstruct.library.client.model.tools;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
-import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Sets;
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.mojang.datafixers.util.Pair;
+import io.github.fabricators_of_create.porting_lib.models.CompositeModel;
 import io.github.fabricators_of_create.porting_lib.models.geometry.IGeometryLoader;
 import io.github.fabricators_of_create.porting_lib.models.geometry.IUnbakedGeometry;
 import net.minecraft.client.MinecraftClient;
@@ -21,16 +21,22 @@ import net.minecraft.client.texture.MissingSprite;
 import net.minecraft.client.texture.Sprite;
 import net.minecraft.client.util.SpriteIdentifier;
 import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.client.render.item.ItemRenderer;
 import net.minecraft.client.world.ClientWorld;
 import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
 import net.minecraft.screen.PlayerScreenHandler;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
 import net.minecraft.util.math.AffineTransformation;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec2f;
+import net.minecraftforge.client.RenderTypeGroup;
 import net.minecraftforge.client.model.BakedModelWrapper;
-import net.minecraftforge.client.model.IModelBuilder;
 import net.minecraftforge.client.model.geometry.IGeometryBakingContext;
 import org.jetbrains.annotations.Nullable;
 import org.joml.Vector3f;
@@ -45,6 +51,7 @@ import slimeknights.mantle.util.ReversedListBuilder;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfo.TintedSprite;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfoLoader;
+import slimeknights.tconstruct.library.client.materials.MaterialSpriteAtlas;
 import slimeknights.tconstruct.library.client.model.BakedUniqueGuiModel;
 import slimeknights.tconstruct.library.client.modifiers.IBakedModifierModel;
 import slimeknights.tconstruct.library.client.modifiers.ModifierModelManager;
@@ -57,9 +64,13 @@ import slimeknights.tconstruct.library.tools.item.IModifiable;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.library.tools.nbt.MaterialIdNBT;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ToolStackCache;
 
 import java.util.*;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -86,6 +97,18 @@ public class ToolModel implements IUnbakedGeometry<ToolModel> {
         return type;
     }
 
+    /**
+     * Incremented each time a tool model finishes baking in the background, so anything holding onto item models knows to fetch them again
+     */
+    private static final AtomicInteger BAKE_GENERATION = new AtomicInteger();
+
+    /**
+     * Gets the current background bake generation, changes whenever a new tool model becomes available
+     */
+    public static int getBakeGeneration() {
+        return BAKE_GENERATION.get();
+    }
+
 
     /**
      * Color handler instance for all tools, handles both material and modifier colors
@@ -332,8 +355,8 @@ public class ToolModel implements IUnbakedGeometry<ToolModel> {
     /**
      * Makes a model builder for the given context and overrides
      */
-    private static IModelBuilder<?> makeModelBuilder(JsonUnbakedModel context, ModelOverrideList overrides, Sprite particle) {
-        return IModelBuilder.of(context.useAmbientOcclusion(), context.useBlockLight(), context.isGui3d(), context.getTransforms(), overrides, particle, MantleItemLayerModel.getDefaultRenderType(context));
+    private static CompositeModel.Baked.Builder makeModelBuilder(JsonUnbakedModel context, ModelOverrideList overrides, Sprite particle) {
+        return CompositeModel.Baked.builder(context, particle, overrides, context.getTransforms());
     }
 
     /**
@@ -381,8 +404,9 @@ public class ToolModel implements IUnbakedGeometry<ToolModel> {
                 // start by fetching the material we are rendering at this position, should only be null on invalid tools or during the initial bake
                 int index = part.index();
                 MaterialVariantId material = index < materials.size() ? materials.get(index) : IMaterial.UNKNOWN_ID;
-                TintedSprite materialSprite = MaterialModel.getMaterialSprite(spriteGetter, owner.getMaterial(part.getName(false)), material);
-                particle = materialSprite.sprite();
+                SpriteIdentifier texture = owner.getMaterial(part.getName(false));
+                TintedSprite materialSprite = MaterialModel.getMaterialSprite(spriteGetter, texture, material);
+                particle = MaterialModel.getParticleSprite(spriteGetter, texture, materialSprite);
 
                 // need full quads for both as small is directly rendered in a few non-GUI cases
                 smallQuads.add(MantleItemLayerModel.getQuadsForSprite(materialSprite.color(), -1, materialSprite.sprite(), smallTransforms, materialSprite.emissivity(), smallPixels));
@@ -406,19 +430,22 @@ public class ToolModel implements IUnbakedGeometry<ToolModel> {
         }
 
         // start by building the small models, one for GUI and one outside
-        IModelBuilder<?> smallModelBuilder = makeModelBuilder(owner, overrides, particle);
-        IModelBuilder<?> guiModelBuilder = makeModelBuilder(owner, overrides, particle);
+        // quads with sprites from the dynamic material atlas need that atlas bound, so each quad picks its render types
+        RenderTypeGroup renderTypes = MantleItemLayerModel.getDefaultRenderType(owner);
+        CompositeModel.Baked.Builder smallModelBuilder = makeModelBuilder(owner, overrides, particle);
+        CompositeModel.Baked.Builder guiModelBuilder = makeModelBuilder(owner, overrides, particle);
         smallQuads.build(quads -> quads.forEach(quad -> {
-            smallModelBuilder.addUnculledFace(quad);
+            RenderTypeGroup quadTypes = MaterialSpriteAtlas.getRenderType(renderTypes, quad.getSprite());
+            smallModelBuilder.addQuads(quadTypes, quad);
             if (quad.getFace() == Direction.SOUTH) {
-                guiModelBuilder.addUnculledFace(quad);
+                guiModelBuilder.addQuads(quadTypes, quad);
             }
         }));
         if (largeTransforms == null) {
             return new BakedUniqueGuiModel(smallModelBuilder.build(), guiModelBuilder.build());
         }
-        IModelBuilder<?> largeModelBuilder = makeModelBuilder(owner, overrides, particle);
-        largeQuads.build(quads -> quads.forEach(largeModelBuilder::addUnculledFace));
+        CompositeModel.Baked.Builder largeModelBuilder = makeModelBuilder(owner, overrides, particle);
+        largeQuads.build(quads -> quads.forEach(quad -> largeModelBuilder.addQuads(MaterialSpriteAtlas.getRenderType(renderTypes, quad.getSprite()), quad)));
         return new BakedLargeToolModel(largeModelBuilder.build(), smallModelBuilder.build(), guiModelBuilder.build());
     }
 
@@ -506,13 +533,31 @@ public class ToolModel implements IUnbakedGeometry<ToolModel> {
          * If true, we are currently resolving a nested model and should ignore further nesting
          */
         private static boolean ignoreNested = false;
+        /**
+         * Parsed material IDs by the identity of the materials tag, saves reparsing the material list every frame. Tools replace the tag when materials change
+         */
+        private static final Cache<NbtElement, List<MaterialVariantId>> MATERIAL_IDS = CacheBuilder
+                .newBuilder()
+                .weakKeys()
+                .maximumSize(1024)
+                .build();
+        /**
+         * Reusable list for building modifier cache keys, only copied into the cache key when a new model is baked
+         */
+        private static final ThreadLocal<List<Object>> MODIFIER_KEYS = ThreadLocal.withInitial(ArrayList::new);
 
         // contains all the baked models since they'll never change, cleared automatically as the baked model is discarded
         private final Cache<ToolCacheKey, BakedModel> cache = CacheBuilder
                 .newBuilder()
                 // ensure we can display every single tool that shows in JEI, plus a couple extra
-                .maximumSize(MaterialRenderInfoLoader.INSTANCE.getAllRenderInfos().size() * 3L / 2)
+                // combinations beyond that come from modifiers, so let unused ones expire rather than growing the limit
+                .maximumSize(Math.max(256, MaterialRenderInfoLoader.INSTANCE.getAllRenderInfos().size() * 3L / 2))
+                .expireAfterAccess(5, TimeUnit.MINUTES)
                 .build();
+        /**
+         * Models currently being baked off the render thread
+         */
+        private final Map<ToolCacheKey, CompletableFuture<BakedModel>> baking = new ConcurrentHashMap<>();
 
         // parameters needed for rebaking
         private final JsonUnbakedModel owner;
@@ -544,6 +589,54 @@ public class ToolModel implements IUnbakedGeometry<ToolModel> {
             return bakeInternal(owner, SpriteIdentifier::getSprite, largeTransforms, toolParts, modifierModels, firstModifiers, materials, tool, ModelOverrideList.EMPTY);
         }
 
+        /**
+         * Gets the material IDs for the given stack, reusing the parsed list if the materials tag is unchanged
+         */
+        private static List<MaterialVariantId> getMaterialIds(ItemStack stack) {
+            NbtCompound nbt = stack.getNbt();
+            NbtElement materials = nbt == null ? null : nbt.get(ToolStack.TAG_MATERIALS);
+            if (materials == null) {
+                return List.of();
+            }
+            List<MaterialVariantId> ids = MATERIAL_IDS.getIfPresent(materials);
+            if (ids == null) {
+                ids = MaterialIdNBT.readFromNBT(materials).getMaterials();
+                MATERIAL_IDS.put(materials, ids);
+            }
+            return ids;
+        }
+
+        /**
+         * Starts baking the model for the given key off the render thread
+         *
+         * @param key  Cache key, must not reference mutable data
+         * @param tool Tool to bake, will be copied as the stack may change while baking
+         */
+        private void bakeAsync(ToolCacheKey key, IToolStackView tool) {
+            CompletableFuture<BakedModel> future = new CompletableFuture<>();
+            if (baking.putIfAbsent(key, future) != null) {
+                return;
+            }
+            // attached after inserting, removing from within a map update would fail if the future was already complete
+            future.whenComplete((model, error) -> {
+                if (error != null) {
+                    TConstruct.LOG.error("Failed to bake tool model", error);
+                } else {
+                    cache.put(key, model);
+                    BAKE_GENERATION.incrementAndGet();
+                }
+                baking.remove(key, future);
+            });
+            IToolStackView copy = tool instanceof ToolStack stack ? stack.copy() : tool;
+            Util.getMainWorkerExecutor().execute(() -> {
+                try {
+                    future.complete(bakeDynamic(key.materials(), copy));
+                } catch (Throwable error) {
+                    future.completeExceptionally(error);
+                }
+            });
+        }
+
         @Override
         public BakedModel apply(BakedModel originalModel, ItemStack stack, @Nullable ClientWorld world, @Nullable LivingEntity entity, int seed) {
             // first, resolve the overrides
@@ -559,8 +652,8 @@ public class ToolModel implements IUnbakedGeometry<ToolModel> {
                 }
             }
             // use material IDs for the sake of internal rendering materials
-            List<MaterialVariantId> materialIds = MaterialIdNBT.from(stack).getMaterials();
-            IToolStackView tool = ToolStack.from(stack);
+            List<MaterialVariantId> materialIds = getMaterialIds(stack);
+            IToolStackView tool = ToolStackCache.from(stack);
 
             // if nothing unique, render original
             skip:
@@ -575,7 +668,8 @@ public class ToolModel implements IUnbakedGeometry<ToolModel> {
 
             // build the cache key for the modifiers, based on what the modifier requests
             // for many, it is just the modifier entry, but they can have more complex keys if needed
-            ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            List<Object> builder = MODIFIER_KEYS.get();
+            builder.clear();
             Set<ModifierId> hidden = ModifierSetWorktableRecipe.getModifierSet(tool.getPersistentData(), TConstruct.getResource("invisible_modifiers"));
             ModifierEntry[] firstEntries = new ModifierEntry[firstModifiers.size()];
             for (ModifierEntry entry : tool.getUpgrades().getModifiers()) {
@@ -608,12 +702,30 @@ public class ToolModel implements IUnbakedGeometry<ToolModel> {
                 }
             }
 
-            // render special model
-            try {
-                return cache.get(new ToolCacheKey(materialIds, builder.build()), () -> bakeDynamic(materialIds, tool));
-            } catch (ExecutionException e) {
-                TConstruct.LOG.error("Failed to get tool model from cache", e);
-                return originalModel;
+            // render special model, lookup using the reusable list so cache hits do not allocate a copy
+            BakedModel model = cache.getIfPresent(new ToolCacheKey(materialIds, builder));
+            if (model != null) {
+                return model;
+            }
+            // bake off the render thread, showing the original model until its ready
+            bakeAsync(new ToolCacheKey(materialIds, List.copyOf(builder)), tool);
+            return originalModel;
+        }
+    }
+
+    /**
+     * Bakes ahead models for tools in the player's inventory, so they are ready before they are first rendered
+     *
+     * @param player Player to check
+     */
+    public static void bakeAhead(PlayerEntity player) {
+        ItemRenderer renderer = MinecraftClient.getInstance().getItemRenderer();
+        PlayerInventory inventory = player.getInventory();
+        for (int i = 0; i < inventory.size(); i++) {
+            ItemStack stack = inventory.getStack(i);
+            if (!stack.isEmpty() && stack.getItem() instanceof IModifiable) {
+                // resolving overrides starts the bake if needed
+                renderer.getModel(stack, player.getWorld(), player, 0);
             }
         }
     }
@@ -7,6 +7,7 @@ import net.minecraft.client.util.SpriteIdentifier;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.AffineTransformation;
 import slimeknights.mantle.util.ItemLayerPixels;
+import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfo;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfoLoader;
 import slimeknights.tconstruct.library.client.model.tools.MaterialModel;
@@ -33,7 +34,8 @@ public class MaterialModifierModel implements IBakedModifierModel {
     @Nullable
     private static SpriteIdentifier stitchMaterialTextures(Function<String, SpriteIdentifier> textureGetter) {
         SpriteIdentifier baseTexture = textureGetter.apply("");
-        if (baseTexture != null) {
+        // with the dynamic material atlas, material variants are loaded when first displayed
+        if (baseTexture != null && !Config.CLIENT.dynamicMaterialAtlas.get()) {
             for (MaterialRenderInfo info : MaterialRenderInfoLoader.INSTANCE.getAllRenderInfos()) {
                 Identifier texture = info.getTexture();
                 if (texture != null) {
@@ -0,0 +1,179 @@
+package slimeknights.tconstruct.library.json.math;
+
+import net.minecraft.util.math.MathHelper;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Post fix formula compiled into a tree of evaluators, avoiding the stack allocation and per operation dispatch of interpreting the formula.
+ * Any operation whose inputs are all constant is folded into a constant while compiling.
+ */
+@FunctionalInterface
+interface CompiledFormula {
+    /**
+     * Empty arguments for evaluating constant subtrees
+     */
+    float[] NO_ARGUMENTS = new float[0];
+
+    /**
+     * Evaluates the formula
+     *
+     * @param values Formula arguments, length is validated by the caller
+     * @return Formula result
+     */
+    float apply(float[] values);
+
+    /**
+     * Compiles the given operations
+     *
+     * @param operations   Operations in post fix order
+     * @param numArguments Number of formula arguments
+     * @return Compiled formula, or null if the formula is invalid or contains an unknown operation, in which case the interpreter should be used
+     */
+    @Nullable
+    static CompiledFormula compile(List<StackOperation> operations, int numArguments) {
+        List<CompiledFormula> stack = new ArrayList<>();
+        for (StackOperation operation : operations) {
+            if (operation instanceof PushConstantOperation constant) {
+                stack.add(new Constant(constant.value()));
+            } else if (operation instanceof PushVariableOperation variable) {
+                int index = variable.index();
+                if (index < 0 || index >= numArguments) {
+                    return null;
+                }
+                stack.add(values -> values[index]);
+            } else if (operation instanceof PostFixOperator operator) {
+                if (!compileOperator(operator, stack)) {
+                    return null;
+                }
+            } else {
+                // custom operation, we have no idea how to compile it
+                return null;
+            }
+        }
+        if (stack.size() != 1) {
+            return null;
+        }
+        return stack.get(0);
+    }
+
+    /**
+     * Compiles the given operator, updating the stack
+     *
+     * @return False if the stack does not have enough values for the operator
+     */
+    private static boolean compileOperator(PostFixOperator operator, List<CompiledFormula> stack) {
+        int size = stack.size();
+        switch (operator) {
+            // stack manipulation
+            case SWAP -> {
+                if (size < 2) {
+                    return false;
+                }
+                CompiledFormula top = stack.get(size - 1);
+                stack.set(size - 1, stack.get(size - 2));
+                stack.set(size - 2, top);
+                return true;
+            }
+            case DUPLICATE -> {
+                if (size < 1) {
+                    return false;
+                }
+                // subtrees are pure, so evaluating twice gives the same result as copying the value
+                stack.add(stack.get(size - 1));
+                return true;
+            }
+            // unary operators
+            case NEGATE, NON_NEGATIVE, PERCENT_CLAMP, ABS, FLOOR, CEIL -> {
+                if (size < 1) {
+                    return false;
+                }
+                CompiledFormula value = stack.remove(size - 1);
+                stack.add(fold(unary(operator, value), value, value));
+                return true;
+            }
+            // binary operators
+            default -> {
+                if (size < 2) {
+                    return false;
+                }
+                CompiledFormula right = stack.remove(size - 1);
+                CompiledFormula left = stack.remove(size - 2);
+                stack.add(fold(binary(operator, left, right), left, right));
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Replaces the formula with a constant if both its inputs are constant
+     */
+    private static CompiledFormula fold(CompiledFormula formula, CompiledFormula left, CompiledFormula right) {
+        if (left instanceof Constant && right instanceof Constant) {
+            return new Constant(formula.apply(NO_ARGUMENTS));
+        }
+        return formula;
+    }
+
+    /**
+     * Creates the evaluator for a unary operator, must match {@link PostFixOperator#perform(it.unimi.dsi.fastutil.floats.FloatStack, float[])}
+     */
+    private static CompiledFormula unary(PostFixOperator operator, CompiledFormula value) {
+        return switch (operator) {
+            case NEGATE -> values -> -value.apply(values);
+            case NON_NEGATIVE -> values -> {
+                float result = value.apply(values);
+                return result < 0 ? 0 : result;
+            };
+            case PERCENT_CLAMP -> values -> {
+                float result = value.apply(values);
+                return result < 0 ? 0 : result > 1 ? 1 : result;
+            };
+            case ABS -> values -> {
+                float result = value.apply(values);
+                return result < 0 ? -result : result;
+            };
+            case FLOOR -> values -> MathHelper.floor(value.apply(values));
+            case CEIL -> values -> MathHelper.ceil(value.apply(values));
+            default -> throw new IllegalArgumentException("Operator " + operator + " is not unary");
+        };
+    }
+
+    /**
+     * Creates the evaluator for a binary operator, must match {@link PostFixOperator#perform(it.unimi.dsi.fastutil.floats.FloatStack, float[])}
+     */
+    private static CompiledFormula binary(PostFixOperator operator, CompiledFormula left, CompiledFormula right) {
+        return switch (operator) {
+            case ADD -> values -> left.apply(values) + right.apply(values);
+            case SUBTRACT -> values -> left.apply(values) - right.apply(values);
+            case SUBTRACT_FLIPPED -> values -> right.apply(values) - left.apply(values);
+            case MULTIPLY -> values -> left.apply(values) * right.apply(values);
+            case DIVIDE -> values -> {
+                float divisor = right.apply(values);
+                return divisor == 0 ? 0 : left.apply(values) / divisor;
+            };
+            case DIVIDE_FLIPPED -> values -> {
+                float divisor = left.apply(values);
+                return divisor == 0 ? 0 : right.apply(values) / divisor;
+            };
+            case POWER -> values -> (float) Math.pow(left.apply(values), right.apply(values));
+            case POWER_FLIPPED -> values -> (float) Math.pow(right.apply(values), left.apply(values));
+            case MIN -> values -> Math.min(left.apply(values), right.apply(values));
+            case MAX -> values -> Math.max(left.apply(values), right.apply(values));
+            default -> throw new IllegalArgumentException("Operator " + operator + " is not binary");
+        };
+    }
+
+    /**
+     * Formula that always returns the same value
+     */
+    record Constant(float value) implements CompiledFormula {
+        @Override
+        public float apply(float[] values) {
+            return value;
+        }
+    }
+}
@@ -7,23 +7,70 @@ import com.google.gson.JsonSyntaxException;
 import it.unimi.dsi.fastutil.floats.AbstractFloatList;
 import it.unimi.dsi.fastutil.floats.FloatArrayList;
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
+import lombok.ToString;
 import net.minecraft.network.PacketByteBuf;
 import slimeknights.mantle.util.JsonHelper;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.util.List;
 
 /**
- * Performs a math formula using a post fix calculator
+ * Performs a math formula using a post fix calculator.
+ * The formula is compiled into a {@link CompiledFormula} on construction, the stack based interpreter is only used if compiling fails.
  */
-public record PostFixFormula(List<StackOperation> operations, int numArguments) implements ModifierFormula {
+@EqualsAndHashCode
+@ToString
+public final class PostFixFormula implements ModifierFormula {
+    private final List<StackOperation> operations;
+    private final int numArguments;
+    /**
+     * Compiled form of the operations, null if the formula could not be compiled
+     */
+    @Nullable
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final CompiledFormula compiled;
+
+    public PostFixFormula(List<StackOperation> operations, int numArguments) {
+        this.operations = operations;
+        this.numArguments = numArguments;
+        this.compiled = CompiledFormula.compile(operations, numArguments);
+    }
+
+    /**
+     * Gets the operations in this formula
+     */
+    public List<StackOperation> operations() {
+        return operations;
+    }
+
+    /**
+     * Gets the number of arguments expected by this formula
+     */
+    public int numArguments() {
+        return numArguments;
+    }
+
     @Override
     public float apply(float... values) {
         // must have the right number of values to evaluate
         if (values.length != numArguments) {
             throw new IllegalArgumentException("Expected " + numArguments + " arguments, but received " + values.length);
         }
+        if (compiled != null) {
+            return compiled.apply(values);
+        }
+        return interpret(values);
+    }
+
+    /**
+     * Evaluates the formula by running each operation on a stack
+     */
+    private float interpret(float[] values) {
         AbstractFloatList stack = new FloatArrayList(5);
         for (StackOperation operation : operations) {
             operation.perform(stack, values);
@@ -45,7 +92,8 @@ public record PostFixFormula(List<StackOperation> operations, int numArguments)
      * @throws RuntimeException if something is invalid in the formula
      */
     public void validateFormula() {
-        apply(new float[numArguments]);
+        // interpreter reports stack errors, compiling just gives up on them
+        interpret(new float[numArguments]);
     }
 
     /**
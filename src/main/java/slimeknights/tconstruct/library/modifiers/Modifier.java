@@ -375,6 +375,16 @@ public class Modifier implements IHaveLoader, IdAwareObject {
         return this.hooks.getOrDefault(hook);
     }
 
+    /**
+     * Checks if this modifier has a module for the given hook, as opposed to using the default instance
+     *
+     * @param hook Hook to check
+     * @return True if the hook is implemented
+     */
+    public final boolean hasHook(ModuleHook<?> hook) {
+        return this.hooks.hasHook(hook);
+    }
+
 
     @Override
     public String toString() {
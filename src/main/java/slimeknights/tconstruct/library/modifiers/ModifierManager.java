@@ -16,7 +16,6 @@ import net.minecraft.registry.Registry;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.tag.TagGroupLoader;
 import net.minecraft.registry.tag.TagKey;
-import net.minecraft.resource.JsonDataLoader;
 import net.minecraft.resource.Resource;
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.util.Identifier;
@@ -35,6 +34,7 @@ import net.minecraftforge.fml.event.IModBusEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import net.minecraftforge.registries.ForgeRegistries;
+import slimeknights.mantle.data.listener.ParallelJsonDataLoader;
 import slimeknights.mantle.data.registry.GenericLoaderRegistry;
 import slimeknights.mantle.util.JsonHelper;
 import slimeknights.mantle.util.RegistryHelper;
@@ -63,7 +63,7 @@ import java.util.stream.Stream;
  * Modifier registry and JSON loader
  */
 @Log4j2
-public class ModifierManager extends JsonDataLoader {
+public class ModifierManager extends ParallelJsonDataLoader {
     /**
      * Location of dynamic modifiers
      */
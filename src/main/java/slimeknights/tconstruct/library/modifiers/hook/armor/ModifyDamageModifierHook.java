@@ -3,6 +3,8 @@ package slimeknights.tconstruct.library.modifiers.hook.armor;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.module.ModuleHook;
 import slimeknights.tconstruct.library.tools.context.EquipmentContext;
+import slimeknights.tconstruct.library.tools.context.EquipmentHookIndex;
+import slimeknights.tconstruct.library.tools.context.EquipmentHookIndex.HookEntry;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 
 import java.util.Collection;
@@ -61,14 +63,14 @@ public interface ModifyDamageModifierHook {
      * @param isDirectDamage If true, the damage source is applying directly
      */
     static float modifyDamageTaken(ModuleHook<ModifyDamageModifierHook> hook, EquipmentContext context, DamageSource source, float amount, boolean isDirectDamage) {
-        for (EquipmentSlot slotType : EquipmentSlot.values()) {
-            IToolStackView toolStack = context.getToolInSlot(slotType);
-            if (toolStack != null && !toolStack.isBroken()) {
-                for (ModifierEntry entry : toolStack.getModifierList()) {
-                    amount = entry.getHook(hook).modifyDamageTaken(toolStack, entry, context, slotType, source, amount, isDirectDamage);
-                    if (amount < 0) {
-                        return 0;
-                    }
+        // only visit modifiers that implement the hook
+        for (HookEntry hookEntry : EquipmentHookIndex.get(context.getEntity()).getEntries(hook)) {
+            IToolStackView toolStack = hookEntry.tool();
+            if (!toolStack.isBroken()) {
+                ModifierEntry entry = hookEntry.modifier();
+                amount = entry.getHook(hook).modifyDamageTaken(toolStack, entry, context, hookEntry.slot(), source, amount, isDirectDamage);
+                if (amount < 0) {
+                    return 0;
                 }
             }
         }
@@ -1,17 +1,20 @@
 package slimeknights.tconstruct.library.modifiers.hook.armor;
 
 import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.EquipmentSlot.Type;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.world.damagesource.EntityDamageSource;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.module.ModuleHook;
 import slimeknights.tconstruct.library.tools.context.EquipmentContext;
-import slimeknights.tconstruct.library.tools.definition.ModifiableArmorMaterial;
+import slimeknights.tconstruct.library.tools.context.EquipmentHookIndex;
+import slimeknights.tconstruct.library.tools.context.EquipmentHookIndex.HookEntry;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.library.utils.Util;
 
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Hook called when attacked while wearing armor with this modifier, ideal for counterattacks or buffing the attack target.
@@ -59,12 +62,11 @@ public interface OnAttackedModifierHook {
     /**
      * Internal logic for {@link #handleAttack(ModuleHook, EquipmentContext, DamageSource, float, boolean)}
      */
-    private static void handleAttack(ModuleHook<OnAttackedModifierHook> hook, EquipmentContext context, DamageSource source, float amount, boolean isDirectDamage, EquipmentSlot slotType) {
-        IToolStackView toolStack = context.getToolInSlot(slotType);
-        if (toolStack != null && !toolStack.isBroken()) {
-            for (ModifierEntry entry : toolStack.getModifierList()) {
-                entry.getHook(hook).onAttacked(toolStack, entry, context, slotType, source, amount, isDirectDamage);
-            }
+    private static void handleAttack(ModuleHook<OnAttackedModifierHook> hook, EquipmentContext context, DamageSource source, float amount, boolean isDirectDamage, HookEntry hookEntry) {
+        IToolStackView toolStack = hookEntry.tool();
+        if (!toolStack.isBroken()) {
+            ModifierEntry entry = hookEntry.modifier();
+            entry.getHook(hook).onAttacked(toolStack, entry, context, hookEntry.slot(), source, amount, isDirectDamage);
         }
     }
 
@@ -78,15 +80,26 @@ public interface OnAttackedModifierHook {
      * @param isDirectDamage If true, the damage source is applying directly
      */
     static void handleAttack(ModuleHook<OnAttackedModifierHook> hook, EquipmentContext context, DamageSource source, float amount, boolean isDirectDamage) {
-        // first we need to determine if any of the four slots want to cancel the event, then we need to determine if any want to respond assuming its not canceled
-        for (EquipmentSlot slotType : ModifiableArmorMaterial.ARMOR_SLOTS) {
-            handleAttack(hook, context, source, amount, isDirectDamage, slotType);
+        // only visit modifiers that implement the hook, armor slots run first
+        LivingEntity entity = context.getEntity();
+        List<HookEntry> entries = EquipmentHookIndex.get(entity).getEntries(hook);
+        if (entries.isEmpty()) {
+            return;
+        }
+        for (HookEntry hookEntry : entries) {
+            if (hookEntry.slot().getType() == Type.ARMOR) {
+                handleAttack(hook, context, source, amount, isDirectDamage, hookEntry);
+            }
         }
         // shields only run this hook when blocking
         // TODO: what if the slot in charge is not the blocking slot, can that happen?
-        LivingEntity entity = context.getEntity();
         if (entity.isBlocking()) {
-            handleAttack(hook, context, source, amount, isDirectDamage, Util.getSlotType(entity.getActiveHand()));
+            EquipmentSlot blocking = Util.getSlotType(entity.getActiveHand());
+            for (HookEntry hookEntry : entries) {
+                if (hookEntry.slot() == blocking) {
+                    handleAttack(hook, context, source, amount, isDirectDamage, hookEntry);
+                }
+            }
         }
     }
 }
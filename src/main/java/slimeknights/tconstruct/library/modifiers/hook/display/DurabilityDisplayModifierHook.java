@@ -5,6 +5,7 @@ import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierHooks;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ToolStackCache;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 
 import org.jetbrains.annotations.Nullable;
@@ -57,7 +58,7 @@ public interface DurabilityDisplayModifierHook {
         }
 
         // poll modifiers to see if any think the bar should show or should not show
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         for (ModifierEntry entry : tool.getModifierList()) {
             Boolean show = entry.getHook(ModifierHooks.DURABILITY_DISPLAY).showDurabilityBar(tool, entry);
             if (show != null) {
@@ -97,7 +98,7 @@ public interface DurabilityDisplayModifierHook {
      * @return Durability width between 0 and 13
      */
     static int getDurabilityWidth(ItemStack stack) {
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         if (tool.isBroken()) {
             return 0;
         }
@@ -120,7 +121,7 @@ public interface DurabilityDisplayModifierHook {
      * @return RGB value
      */
     static int getDurabilityRGB(ItemStack stack) {
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         // if the tool is broken, it has a 0 width bar, no other way to achieve 0 width bar
         // 0 width is not even visible, so save some effort and call it black
         if (tool.isBroken()) {
@@ -4,6 +4,7 @@ import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierHooks;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ToolStackCache;
 
 import java.util.Collection;
 import java.util.List;
@@ -43,7 +44,7 @@ public interface InventoryTickModifierHook {
     static void heldInventoryTick(ItemStack stack, World worldIn, Entity entityIn, int itemSlot, boolean isSelected) {
         // don't care about non-living, they skip most tool context
         if (entityIn instanceof LivingEntity) {
-            ToolStack tool = ToolStack.from(stack);
+            ToolStack tool = ToolStackCache.from(stack);
             if (!worldIn.isClient) {
                 tool.ensureHasData();
             }
@@ -1,5 +1,7 @@
 package slimeknights.tconstruct.library.modifiers.impl;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.RequiredArgsConstructor;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
@@ -25,8 +27,11 @@ import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 
 /**
  * Modifier that has an inventory
@@ -46,6 +51,15 @@ public class InventoryModifier extends Modifier implements InventoryModifierHook
      * NBT key to store the slot for a stack
      */
     protected static final String TAG_SLOT = "Slot";
+    /**
+     * Decoded stacks for each inventory list. Weak keys compare by identity, so replacing the list in persistent data discards the decoded copy
+     */
+    private static final Cache<NbtList, DecodedInventory> DECODED = CacheBuilder
+            .newBuilder()
+            .weakKeys()
+            .maximumSize(1024)
+            .expireAfterAccess(1, TimeUnit.MINUTES)
+            .build();
 
     /**
      * Persistent data key for the inventory storage, if null uses the modifier ID
@@ -112,6 +126,8 @@ public class InventoryModifier extends Modifier implements InventoryModifierHook
                         } else {
                             freeSlots.set(free, false);
                             compoundNBT.putInt(TAG_SLOT, free);
+                            // slot moved in place, so the decoded inventory no longer matches
+                            DECODED.invalidate(listNBT);
                         }
                     }
                 }
@@ -137,18 +153,25 @@ public class InventoryModifier extends Modifier implements InventoryModifierHook
         return null;
     }
 
+    /**
+     * Gets the decoded inventory for the given list, decoding it if needed
+     */
+    private static DecodedInventory getDecoded(NbtList list) {
+        DecodedInventory decoded = DECODED.getIfPresent(list);
+        if (decoded == null) {
+            decoded = new DecodedInventory(list);
+            DECODED.put(list, decoded);
+        }
+        return decoded;
+    }
+
     @Override
     public ItemStack getStack(IToolStackView tool, ModifierEntry modifier, int slot) {
         IModDataView modData = tool.getPersistentData();
         Identifier key = getInventoryKey();
         if (slot < getSlots(tool, modifier) && modData.contains(key, NbtElement.LIST_TYPE)) {
-            NbtList list = tool.getPersistentData().get(key, GET_COMPOUND_LIST);
-            for (int i = 0; i < list.size(); i++) {
-                NbtCompound compound = list.getCompound(i);
-                if (compound.getInt(TAG_SLOT) == slot) {
-                    return ItemStack.fromNbt(compound);
-                }
-            }
+            // copy so callers modifying the stack do not desync the decoded inventory from NBT
+            return getDecoded(modData.get(key, GET_COMPOUND_LIST)).get(slot).copy();
         }
         return ItemStack.EMPTY;
     }
@@ -162,20 +185,6 @@ public class InventoryModifier extends Modifier implements InventoryModifierHook
             Identifier key = getInventoryKey();
             if (modData.contains(key, NbtElement.LIST_TYPE)) {
                 list = modData.get(key, GET_COMPOUND_LIST);
-                // first, try to find an existing stack in the slot
-                for (int i = 0; i < list.size(); i++) {
-                    NbtCompound compound = list.getCompound(i);
-                    if (compound.getInt(TAG_SLOT) == slot) {
-                        if (stack.isEmpty()) {
-                            list.remove(i);
-                        } else {
-                            compound.getKeys().clear();
-                            stack.writeNbt(compound);
-                            compound.putInt(TAG_SLOT, slot);
-                        }
-                        return;
-                    }
-                }
             } else if (stack.isEmpty()) {
                 // nothing to do if empty
                 return;
@@ -183,12 +192,32 @@ public class InventoryModifier extends Modifier implements InventoryModifierHook
                 list = new NbtList();
                 modData.put(key, list);
             }
+            getDecoded(list).set(list, slot, stack);
+        }
+    }
 
-            // list did not contain the slot, so add it
-            if (!stack.isEmpty()) {
-                list.add(write(stack, slot));
+    /**
+     * Finds the first slot containing a stack matching the predicate, without copying any stacks
+     *
+     * @param tool      Tool instance
+     * @param modifier  Modifier entry
+     * @param predicate Predicate to test, must not modify the stack
+     * @return Matching slot, or -1 if no slot matches
+     */
+    protected int findSlot(IToolStackView tool, ModifierEntry modifier, Predicate<ItemStack> predicate) {
+        IModDataView modData = tool.getPersistentData();
+        Identifier key = getInventoryKey();
+        if (modData.contains(key, NbtElement.LIST_TYPE)) {
+            DecodedInventory decoded = getDecoded(modData.get(key, GET_COMPOUND_LIST));
+            int max = Math.min(getSlots(tool, modifier), decoded.stacks.length);
+            for (int slot = 0; slot < max; slot++) {
+                ItemStack stack = decoded.stacks[slot];
+                if (!stack.isEmpty() && predicate.test(stack)) {
+                    return slot;
+                }
             }
         }
+        return -1;
     }
 
     /**
@@ -212,4 +241,82 @@ public class InventoryModifier extends Modifier implements InventoryModifierHook
         compound.putInt(TAG_SLOT, slot);
         return compound;
     }
+
+    /**
+     * Stacks decoded from an inventory list, indexed by slot. Also tracks the compound for each slot so writes only touch the changed slot
+     */
+    private static class DecodedInventory {
+        /**
+         * Decoded stack in each slot, never null
+         */
+        private ItemStack[] stacks;
+        /**
+         * Compound in the list for each slot, null if the slot is empty
+         */
+        private NbtCompound[] compounds;
+
+        private DecodedInventory(NbtList list) {
+            int size = 0;
+            for (int i = 0; i < list.size(); i++) {
+                size = Math.max(size, list.getCompound(i).getInt(TAG_SLOT) + 1);
+            }
+            this.stacks = new ItemStack[size];
+            Arrays.fill(this.stacks, ItemStack.EMPTY);
+            this.compounds = new NbtCompound[size];
+            for (int i = 0; i < list.size(); i++) {
+                NbtCompound compound = list.getCompound(i);
+                int slot = compound.getInt(TAG_SLOT);
+                // if a slot is listed twice, the first entry wins
+                if (slot >= 0 && this.compounds[slot] == null) {
+                    this.compounds[slot] = compound;
+                    this.stacks[slot] = ItemStack.fromNbt(compound);
+                }
+            }
+        }
+
+        /**
+         * Gets the stack in the given slot, should not be modified
+         */
+        private ItemStack get(int slot) {
+            return slot >= 0 && slot < this.stacks.length ? this.stacks[slot] : ItemStack.EMPTY;
+        }
+
+        /**
+         * Sets the stack in the given slot, writing to the list only if the stack changed
+         */
+        private void set(NbtList list, int slot, ItemStack stack) {
+            if (slot < 0 || ItemStack.areEqual(get(slot), stack)) {
+                return;
+            }
+            if (slot >= this.stacks.length) {
+                int oldSize = this.stacks.length;
+                this.stacks = Arrays.copyOf(this.stacks, slot + 1);
+                Arrays.fill(this.stacks, oldSize, slot + 1, ItemStack.EMPTY);
+                this.compounds = Arrays.copyOf(this.compounds, slot + 1);
+            }
+            NbtCompound compound = this.compounds[slot];
+            if (stack.isEmpty()) {
+                // the slot had a stack, so it has a compound
+                for (int i = 0; i < list.size(); i++) {
+                    if (list.get(i) == compound) {
+                        list.remove(i);
+                        break;
+                    }
+                }
+                this.compounds[slot] = null;
+                this.stacks[slot] = ItemStack.EMPTY;
+            } else {
+                if (compound == null) {
+                    compound = write(stack, slot);
+                    list.add(compound);
+                    this.compounds[slot] = compound;
+                } else {
+                    compound.getKeys().clear();
+                    stack.writeNbt(compound);
+                    compound.putInt(TAG_SLOT, slot);
+                }
+                this.stacks[slot] = stack.copy();
+            }
+        }
+    }
 }
@@ -1,20 +1,24 @@
 package slimeknights.tconstruct.library.module;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import net.minecraft.util.Identifier;
 import slimeknights.mantle.registration.object.IdAwareObject;
 
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 /**
  * Class implementing a modifier hook, used as a key for {@link ModuleHookMap )}
  */
-@RequiredArgsConstructor
 public class ModuleHook<T> implements IdAwareObject {
+    /**
+     * Next index to assign to a hook
+     */
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
     /**
      * Unique name of this hook, used for serialization
      */
@@ -34,6 +38,19 @@ public class ModuleHook<T> implements IdAwareObject {
      */
     @Getter
     private final T defaultInstance;
+    /**
+     * Dense index of this hook, used by {@link ModuleHookMap} to store modules in an array. Unique across all hooks, but not stable between launches
+     */
+    @Getter
+    private final int index;
+
+    public ModuleHook(Identifier id, Class<T> filter, @Nullable Function<Collection<T>, T> merger, T defaultInstance) {
+        this.id = id;
+        this.filter = filter;
+        this.merger = merger;
+        this.defaultInstance = defaultInstance;
+        this.index = NEXT_INDEX.getAndIncrement();
+    }
 
     public ModuleHook(Identifier name, Class<T> filter, T defaultInstance) {
         this(name, filter, null, defaultInstance);
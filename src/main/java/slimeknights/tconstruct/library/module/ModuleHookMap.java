@@ -2,7 +2,6 @@ package slimeknights.tconstruct.library.module;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.LinkedHashMultimap;
-import lombok.RequiredArgsConstructor;
 import slimeknights.mantle.data.loadable.ErrorFactory;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.modifiers.impl.BasicModifier;
@@ -19,7 +18,6 @@ import java.util.Map.Entry;
  * Logic for handling modifier and tool hooks, automatically fetching the default instance as needed.
  */
 @SuppressWarnings({"ClassCanBeRecord", "unused"}) // no record as we don't want the map to be public
-@RequiredArgsConstructor
 public class ModuleHookMap {
     /**
      * Instance with no modifiers
@@ -30,6 +28,22 @@ public class ModuleHookMap {
      * Internal map of modifier hook to object. It's the caller's responsibility to make sure the object is valid for the hook
      */
     private final Map<ModuleHook<?>, Object> modules;
+    /**
+     * Same modules as {@link #modules}, indexed by {@link ModuleHook#getIndex()}. Saves a hash lookup on every hook call
+     */
+    private final Object[] byIndex;
+
+    public ModuleHookMap(Map<ModuleHook<?>, Object> modules) {
+        this.modules = modules;
+        int size = 0;
+        for (ModuleHook<?> hook : modules.keySet()) {
+            size = Math.max(size, hook.getIndex() + 1);
+        }
+        this.byIndex = new Object[size];
+        for (Entry<ModuleHook<?>, Object> entry : modules.entrySet()) {
+            this.byIndex[entry.getKey().getIndex()] = entry.getValue();
+        }
+    }
 
     /**
      * Creates a modifier hook map from the given module list
@@ -56,7 +70,7 @@ public class ModuleHookMap {
      * Checks if a module is registered for the given hook
      */
     public boolean hasHook(ModuleHook<?> hook) {
-        return modules.containsKey(hook);
+        return getOrNull(hook) != null;
     }
 
     /**
@@ -65,7 +79,9 @@ public class ModuleHookMap {
     @SuppressWarnings("unchecked")
     @Nullable
     public <T> T getOrNull(ModuleHook<T> hook) {
-        return (T) modules.get(hook);
+        int index = hook.getIndex();
+        // hooks registered after this map was built will be past the end
+        return index < byIndex.length ? (T) byIndex[index] : null;
     }
 
     /**
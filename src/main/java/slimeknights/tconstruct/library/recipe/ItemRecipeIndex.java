@@ -0,0 +1,123 @@
+package slimeknights.tconstruct.library.recipe;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.recipe.Ingredient;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Index of recipes by the item in their primary input, used to avoid testing every recipe of a type on each lookup.
+ * Recipes that cannot be indexed by item are candidates for every item. Candidates are always returned in the original recipe order, so the first match is the same as a linear scan.
+ *
+ * @param <T> Recipe type
+ */
+public class ItemRecipeIndex<T> {
+    /**
+     * All recipes in the original order
+     */
+    private final List<T> recipes;
+    /**
+     * Indices of recipes matching each item
+     */
+    private final Map<Item, IntList> indexed = new HashMap<>();
+    /**
+     * Indices of recipes that cannot be indexed by item
+     */
+    private final IntList residual = new IntArrayList();
+    /**
+     * Final candidate list for each item, merging indexed and residual recipes in recipe order
+     */
+    private final Map<Item, List<T>> candidates = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new index
+     *
+     * @param recipes Recipes to index, in the order they should be tested
+     * @param items   Function returning all items that may match the recipe, or null if the recipe cannot be indexed by item
+     */
+    public ItemRecipeIndex(List<T> recipes, Function<T, Collection<Item>> items) {
+        this.recipes = recipes;
+        for (int i = 0; i < recipes.size(); i++) {
+            Collection<Item> matching = items.apply(recipes.get(i));
+            if (matching == null) {
+                residual.add(i);
+            } else {
+                for (Item item : matching) {
+                    IntList list = indexed.computeIfAbsent(item, k -> new IntArrayList());
+                    // recipes may list the same item multiple times
+                    if (list.isEmpty() || list.getInt(list.size() - 1) != i) {
+                        list.add(i);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets all items matched by the given ingredient for indexing, or null if the ingredient cannot be indexed.
+     * Custom ingredients may not list every match, so only vanilla ingredients are trusted. Empty ingredients match the empty stack, so index as air.
+     *
+     * @param ingredient Ingredient
+     * @return Item list, or null if unindexable
+     */
+    @Nullable
+    public static List<Item> getItems(Ingredient ingredient) {
+        if (ingredient.getClass() != Ingredient.class) {
+            return null;
+        }
+        if (ingredient.isEmpty()) {
+            return List.of(Items.AIR);
+        }
+        ItemStack[] stacks = ingredient.getMatchingStacks();
+        List<Item> items = new ArrayList<>(stacks.length);
+        for (ItemStack stack : stacks) {
+            items.add(stack.getItem());
+        }
+        return items;
+    }
+
+    /**
+     * Merges the indexed and residual recipes for the given item
+     */
+    private List<T> computeCandidates(Item item) {
+        IntList items = indexed.getOrDefault(item, IntList.of());
+        int itemSize = items.size();
+        int residualSize = residual.size();
+        if (itemSize == 0 && residualSize == 0) {
+            return Collections.emptyList();
+        }
+        List<T> list = new ArrayList<>(itemSize + residualSize);
+        int i = 0, r = 0;
+        while (i < itemSize || r < residualSize) {
+            if (r == residualSize || (i < itemSize && items.getInt(i) < residual.getInt(r))) {
+                list.add(recipes.get(items.getInt(i++)));
+            } else {
+                list.add(recipes.get(residual.getInt(r++)));
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Gets all recipes that may match the given item, in recipe order
+     *
+     * @param item Item
+     * @return Candidate recipes
+     */
+    public List<T> getCandidates(Item item) {
+        return candidates.computeIfAbsent(item, this::computeCandidates);
+    }
+}
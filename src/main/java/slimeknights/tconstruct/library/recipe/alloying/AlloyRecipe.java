@@ -3,6 +3,7 @@ package slimeknights.tconstruct.library.recipe.alloying;
 import com.google.gson.JsonSyntaxException;
 import io.github.fabricators_of_create.porting_lib.fluids.FluidStack;
 import lombok.Getter;
+import net.minecraft.fluid.Fluid;
 import net.minecraft.recipe.RecipeSerializer;
 import net.minecraft.recipe.RecipeType;
 import net.minecraft.util.Identifier;
@@ -123,6 +124,21 @@ public class AlloyRecipe implements ICustomOutputRecipe<IAlloyTank> {
         return -1;
     }
 
+    /**
+     * Checks if any input of this recipe accepts the given fluid
+     *
+     * @param fluid Fluid to check
+     * @return True if the fluid is used by this recipe
+     */
+    public boolean usesFluid(Fluid fluid) {
+        for (FluidIngredient ingredient : this.inputs) {
+            if (ingredient.test(fluid)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public boolean matches(IAlloyTank inv, World worldIn) {
         BitSet used = makeBitset(inv);
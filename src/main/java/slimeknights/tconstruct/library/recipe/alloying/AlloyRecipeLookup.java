@@ -0,0 +1,75 @@
+package slimeknights.tconstruct.library.recipe.alloying;
+
+import net.minecraft.fluid.Fluid;
+import net.minecraft.recipe.RecipeManager;
+import slimeknights.mantle.recipe.helper.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inverted index from fluids to the alloy recipes using them, so alloying structures only test recipes relevant to their contents
+ */
+public class AlloyRecipeLookup {
+    /**
+     * Current lookup, null if it needs to be rebuilt from the recipe manager
+     */
+    @Nullable
+    private static volatile AlloyRecipeLookup instance;
+
+    static {
+        RecipeCacheInvalidator.addReloadListener(client -> instance = null);
+    }
+
+    /**
+     * All alloy recipes in recipe manager order
+     */
+    private final List<AlloyRecipe> recipes;
+    /**
+     * Recipes using each fluid, filled lazily as tag contents are not known until first use
+     */
+    private final Map<Fluid, List<AlloyRecipe>> byFluid = new ConcurrentHashMap<>();
+
+    private AlloyRecipeLookup(RecipeManager manager) {
+        this.recipes = RecipeHelper.getRecipes(manager, TinkerRecipeTypes.ALLOYING.get(), AlloyRecipe.class);
+    }
+
+    /**
+     * Gets the lookup, building it if needed. The returned instance will not change until recipes reload
+     *
+     * @param manager Recipe manager
+     * @return Lookup instance
+     */
+    public static AlloyRecipeLookup get(RecipeManager manager) {
+        AlloyRecipeLookup lookup = instance;
+        if (lookup == null) {
+            lookup = new AlloyRecipeLookup(manager);
+            instance = lookup;
+        }
+        return lookup;
+    }
+
+    /**
+     * Gets all recipes with an input accepting the given fluid, in recipe order
+     *
+     * @param fluid Fluid
+     * @return List of recipes using the fluid
+     */
+    public List<AlloyRecipe> getRecipes(Fluid fluid) {
+        return byFluid.computeIfAbsent(fluid, f -> {
+            List<AlloyRecipe> list = new ArrayList<>();
+            for (AlloyRecipe recipe : recipes) {
+                if (recipe.usesFluid(f)) {
+                    list.add(recipe);
+                }
+            }
+            return list.isEmpty() ? List.of() : list;
+        });
+    }
+}
@@ -0,0 +1,219 @@
+package slimeknights.tconstruct.library.recipe.casting;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.fluid.Fluid;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.RecipeManager;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.world.World;
+import slimeknights.mantle.recipe.helper.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.ItemRecipeIndex;
+import slimeknights.tconstruct.library.recipe.casting.container.ContainerFillingRecipe;
+import slimeknights.tconstruct.library.recipe.casting.material.CompositeCastingRecipe;
+import slimeknights.tconstruct.library.recipe.casting.material.MaterialCastingLookup;
+import slimeknights.tconstruct.library.recipe.casting.material.MaterialCastingRecipe;
+import slimeknights.tconstruct.library.recipe.casting.material.ToolCastingRecipe;
+import slimeknights.tconstruct.library.recipe.molding.IMoldingContainer;
+import slimeknights.tconstruct.library.recipe.molding.MoldingRecipe;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Index of casting recipes by cast item and fluid, and of molding recipes by material item, replacing a linear scan over all recipes of the type.
+ * Casting candidates are first narrowed by cast item, then filtered by fluid using the recipe's fluid ingredient or {@link MaterialCastingLookup}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CastingRecipeLookup {
+    /**
+     * Casting indices for each recipe type, as tables and basins have separate types
+     */
+    private static final Map<RecipeType<?>, CastingIndex> CASTING = new ConcurrentHashMap<>();
+    /**
+     * Molding indices for each recipe type
+     */
+    private static final Map<RecipeType<?>, ItemRecipeIndex<MoldingRecipe>> MOLDING = new ConcurrentHashMap<>();
+    /**
+     * Incremented on each reload, lets {@link MissCache} know its results are stale
+     */
+    private static final AtomicInteger GENERATION = new AtomicInteger();
+
+    static {
+        RecipeCacheInvalidator.addReloadListener(client -> {
+            CASTING.clear();
+            MOLDING.clear();
+            GENERATION.incrementAndGet();
+        });
+    }
+
+    /**
+     * Gets all cast items for the given recipe, or null if the recipe cannot be indexed
+     */
+    @Nullable
+    private static List<Item> getCastItems(ICastingRecipe recipe) {
+        if (recipe instanceof ToolCastingRecipe tool) {
+            List<Item> items = ItemRecipeIndex.getItems(tool.getCast());
+            if (items != null) {
+                // the tool itself is accepted as a cast for part swapping
+                items = new ArrayList<>(items);
+                items.add(tool.getResult().asItem());
+            }
+            return items;
+        }
+        if (recipe instanceof AbstractCastingRecipe casting) {
+            return ItemRecipeIndex.getItems(casting.getCast());
+        }
+        if (recipe instanceof PotionCastingRecipe potion) {
+            return ItemRecipeIndex.getItems(potion.getBottle());
+        }
+        if (recipe instanceof ContainerFillingRecipe filling) {
+            return List.of(filling.getContainer());
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the given recipe may match the given fluid. False means the recipe definitely does not match
+     */
+    private static boolean mayMatchFluid(ICastingRecipe recipe, Fluid fluid) {
+        if (recipe instanceof ItemCastingRecipe item) {
+            return item.getFluid().test(fluid);
+        }
+        if (recipe instanceof PotionCastingRecipe potion) {
+            return potion.getFluid().test(fluid);
+        }
+        // composite extends material casting, so must be checked first
+        if (recipe instanceof CompositeCastingRecipe) {
+            return MaterialCastingLookup.isCompositeFluid(fluid);
+        }
+        if (recipe instanceof MaterialCastingRecipe) {
+            return MaterialCastingLookup.isCastingFluid(fluid);
+        }
+        if (recipe instanceof ToolCastingRecipe) {
+            return MaterialCastingLookup.isCastingFluid(fluid) || MaterialCastingLookup.isCompositeFluid(fluid);
+        }
+        return true;
+    }
+
+    /**
+     * Finds the first casting recipe matching the given container
+     *
+     * @param world     World instance
+     * @param type      Casting recipe type
+     * @param container Container to match
+     * @return Recipe, or null if no recipe matches
+     */
+    @Nullable
+    public static ICastingRecipe findCastingRecipe(World world, RecipeType<ICastingRecipe> type, ICastingContainer container) {
+        RecipeManager manager = world.getRecipeManager();
+        CastingIndex index = CASTING.computeIfAbsent(type, t -> new CastingIndex(RecipeHelper.getRecipes(manager, type, ICastingRecipe.class)));
+        for (ICastingRecipe recipe : index.getCandidates(container.getStack().getItem(), container.getFluid())) {
+            if (recipe.matches(container, world)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the first molding recipe matching the given container
+     *
+     * @param world     World instance
+     * @param type      Molding recipe type
+     * @param container Container to match
+     * @return Recipe, or null if no recipe matches
+     */
+    @Nullable
+    public static MoldingRecipe findMoldingRecipe(World world, RecipeType<MoldingRecipe> type, IMoldingContainer container) {
+        RecipeManager manager = world.getRecipeManager();
+        ItemRecipeIndex<MoldingRecipe> index = MOLDING.computeIfAbsent(type, t -> new ItemRecipeIndex<>(
+                RecipeHelper.getRecipes(manager, type, MoldingRecipe.class), recipe -> ItemRecipeIndex.getItems(recipe.getMaterial())));
+        for (MoldingRecipe recipe : index.getCandidates(container.getMaterial().getItem())) {
+            if (recipe.matches(container, world)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Casting recipes indexed by cast item, then filtered by fluid
+     */
+    private static class CastingIndex {
+        private final ItemRecipeIndex<ICastingRecipe> byCast;
+        private final Map<CastKey, List<ICastingRecipe>> byCastAndFluid = new ConcurrentHashMap<>();
+
+        private CastingIndex(List<ICastingRecipe> recipes) {
+            this.byCast = new ItemRecipeIndex<>(recipes, CastingRecipeLookup::getCastItems);
+        }
+
+        /**
+         * Gets all recipes that may match the given cast and fluid
+         */
+        private List<ICastingRecipe> getCandidates(Item cast, Fluid fluid) {
+            return byCastAndFluid.computeIfAbsent(new CastKey(cast, fluid), key -> {
+                List<ICastingRecipe> candidates = byCast.getCandidates(cast);
+                if (candidates.isEmpty()) {
+                    return Collections.emptyList();
+                }
+                List<ICastingRecipe> filtered = new ArrayList<>();
+                for (ICastingRecipe recipe : candidates) {
+                    if (mayMatchFluid(recipe, fluid)) {
+                        filtered.add(recipe);
+                    }
+                }
+                return filtered;
+            });
+        }
+    }
+
+    /**
+     * Key for the second level of the casting index
+     */
+    private record CastKey(Item cast, Fluid fluid) {}
+
+    /**
+     * Remembers the last cast and fluid that failed to find a recipe, so a block entity repeatedly offered the same pair can skip the search.
+     * Automatically invalidated on recipe reload.
+     */
+    public static class MissCache {
+        private ItemStack stack = ItemStack.EMPTY;
+        private Fluid fluid = Fluids.EMPTY;
+        private int generation = -1;
+
+        /**
+         * Checks if the given cast and fluid are known to have no recipe
+         */
+        public boolean isMiss(ItemStack stack, Fluid fluid) {
+            return generation == GENERATION.get() && this.fluid == fluid && ItemStack.canCombine(this.stack, stack);
+        }
+
+        /**
+         * Records that the given cast and fluid have no recipe
+         */
+        public void setMiss(ItemStack stack, Fluid fluid) {
+            this.stack = stack.copyWithCount(1);
+            this.fluid = fluid;
+            this.generation = GENERATION.get();
+        }
+
+        /**
+         * Clears the cached miss
+         */
+        public void clear() {
+            this.stack = ItemStack.EMPTY;
+            this.fluid = Fluids.EMPTY;
+            this.generation = -1;
+        }
+    }
+}
@@ -49,10 +49,12 @@ public class PotionCastingRecipe implements ICastingRecipe, IMultiRecipe<Display
     /**
      * Input on the casting table, always consumed
      */
+    @Getter
     private final Ingredient bottle;
     /**
      * Potion ingredient, typically just the potion tag
      */
+    @Getter
     private final FluidIngredient fluid;
     /**
      * Potion item result, will be given the proper NBT
@@ -49,6 +49,7 @@ public class ContainerFillingRecipe implements ICastingRecipe, IMultiRecipe<Disp
     @Getter
     private final String group;
     private final int fluidAmount;
+    @Getter
     private final Item container;
 
     @Override
@@ -66,6 +66,18 @@ public class MaterialCastingLookup {
         return MaterialFluidRecipe.EMPTY;
     });
 
+    /**
+     * Cache of whether a fluid is used by any composite recipe, regardless of the input material
+     */
+    private static final SimpleCache<Fluid, Boolean> COMPOSITE_FLUID_CACHE = new SimpleCache<>(fluid -> {
+        for (MaterialFluidRecipe recipe : COMPOSITE_FLUIDS) {
+            if (recipe.matches(fluid)) {
+                return true;
+            }
+        }
+        return false;
+    });
+
     /**
      * Listener for clearing the recipe cache on recipe reload
      */
@@ -75,6 +87,7 @@ public class MaterialCastingLookup {
         CASTING_CACHE.clear();
         COMPOSITE_FLUIDS.clear();
         COMPOSITE_CACHE.clear();
+        COMPOSITE_FLUID_CACHE.clear();
     });
 
     /**
@@ -158,6 +171,26 @@ public class MaterialCastingLookup {
         return COMPOSITE_CACHE.apply(new CompositeCacheKey(fluid, material));
     }
 
+    /**
+     * Checks if the given fluid casts into any material
+     *
+     * @param fluid Fluid
+     * @return True if the fluid has a casting recipe
+     */
+    public static boolean isCastingFluid(Fluid fluid) {
+        return getCastingFluid(fluid) != MaterialFluidRecipe.EMPTY;
+    }
+
+    /**
+     * Checks if the given fluid is used in any composite recipe. Does not check the input material, so a match is not guaranteed to be valid
+     *
+     * @param fluid Fluid
+     * @return True if the fluid has a composite recipe
+     */
+    public static boolean isCompositeFluid(Fluid fluid) {
+        return COMPOSITE_FLUID_CACHE.apply(fluid);
+    }
+
     /**
      * Gets all recipes for the given material
      *
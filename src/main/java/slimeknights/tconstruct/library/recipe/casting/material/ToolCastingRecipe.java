@@ -1,5 +1,6 @@
 package slimeknights.tconstruct.library.recipe.casting.material;
 
+import lombok.Getter;
 import net.minecraft.fluid.Fluid;
 import net.minecraft.item.ItemStack;
 import net.minecraft.recipe.Ingredient;
@@ -52,6 +53,7 @@ public class ToolCastingRecipe extends AbstractMaterialCastingRecipe implements
             TinkerLoadables.MODIFIABLE_ITEM.requiredField("result", r -> r.result),
             ToolCastingRecipe::new);
 
+    @Getter
     private final IModifiable result;
     /**
      * Last composite casting recipe to match, speeds up recipe lookup for cooling time and fluid amount
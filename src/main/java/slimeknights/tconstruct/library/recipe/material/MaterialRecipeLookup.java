@@ -0,0 +1,88 @@
+package slimeknights.tconstruct.library.recipe.material;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.RecipeManager;
+import net.minecraft.world.World;
+import slimeknights.mantle.recipe.container.ISingleStackContainer;
+import slimeknights.mantle.recipe.helper.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.materials.definition.MaterialVariantId;
+import slimeknights.tconstruct.library.recipe.ItemRecipeIndex;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of material recipes by input item, replacing a linear scan over all material recipes for each stack.
+ * Tag ingredients are expanded when the index is built, which happens lazily after each recipe reload.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MaterialRecipeLookup {
+    /**
+     * Recipes indexed by input item, null before the first lookup after a reload
+     */
+    @Nullable
+    private static volatile ItemRecipeIndex<MaterialRecipe> index;
+    /**
+     * Recipes for each material variant, for display
+     */
+    private static final Map<MaterialVariantId, List<MaterialRecipe>> BY_MATERIAL = new ConcurrentHashMap<>();
+
+    static {
+        RecipeCacheInvalidator.addReloadListener(client -> {
+            index = null;
+            BY_MATERIAL.clear();
+        });
+    }
+
+    /**
+     * Gets the index, building it if needed
+     */
+    private static ItemRecipeIndex<MaterialRecipe> getIndex(RecipeManager manager) {
+        ItemRecipeIndex<MaterialRecipe> current = index;
+        if (current == null) {
+            current = new ItemRecipeIndex<>(RecipeHelper.getRecipes(manager, TinkerRecipeTypes.MATERIAL.get(), MaterialRecipe.class),
+                                            recipe -> ItemRecipeIndex.getItems(recipe.getIngredient()));
+            index = current;
+        }
+        return current;
+    }
+
+    /**
+     * Finds the first material recipe matching the given stack
+     *
+     * @param world World instance
+     * @param stack Stack to match
+     * @return Recipe, or null if no recipe matches
+     */
+    @Nullable
+    public static MaterialRecipe findRecipe(World world, ItemStack stack) {
+        if (stack.isEmpty()) {
+            return null;
+        }
+        ISingleStackContainer inv = () -> stack;
+        for (MaterialRecipe recipe : getIndex(world.getRecipeManager()).getCandidates(stack.getItem())) {
+            if (recipe.matches(inv, world)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets all material recipes for the given material, sorted by ID for display
+     *
+     * @param manager  Recipe manager
+     * @param material Material variant, recipes for any variant match if no variant is set
+     * @return Recipes for the material
+     */
+    public static List<MaterialRecipe> getRecipes(RecipeManager manager, MaterialVariantId material) {
+        return BY_MATERIAL.computeIfAbsent(material, id -> RecipeHelper.getUIRecipes(manager, TinkerRecipeTypes.MATERIAL.get(), MaterialRecipe.class, recipe -> id.matchesVariant(recipe.getMaterial())));
+    }
+}
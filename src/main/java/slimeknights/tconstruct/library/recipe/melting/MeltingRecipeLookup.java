@@ -0,0 +1,65 @@
+package slimeknights.tconstruct.library.recipe.melting;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.RecipeManager;
+import net.minecraft.world.World;
+import slimeknights.mantle.recipe.helper.RecipeHelper;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.ItemRecipeIndex;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Index of melting recipes by input item, replacing a linear scan of all melting recipes on each lookup.
+ * Recipes with a plain ingredient are indexed under each item their ingredient matches, including items from tags.
+ * All other recipes, such as {@link MaterialMeltingRecipe}, are tested for every item after the indexed recipes in recipe order.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MeltingRecipeLookup {
+    /**
+     * Current index, null if it needs to be rebuilt from the recipe manager
+     */
+    @Nullable
+    private static volatile ItemRecipeIndex<IMeltingRecipe> index;
+
+    static {
+        RecipeCacheInvalidator.addReloadListener(client -> index = null);
+    }
+
+    /**
+     * Gets the index, building it if needed
+     */
+    private static ItemRecipeIndex<IMeltingRecipe> getIndex(RecipeManager manager) {
+        ItemRecipeIndex<IMeltingRecipe> current = index;
+        if (current == null) {
+            current = new ItemRecipeIndex<>(RecipeHelper.getRecipes(manager, TinkerRecipeTypes.MELTING.get(), IMeltingRecipe.class),
+                    recipe -> recipe instanceof MeltingRecipe melting ? ItemRecipeIndex.getItems(melting.getInput()) : null);
+            index = current;
+        }
+        return current;
+    }
+
+    /**
+     * Finds the first melting recipe matching the given container, equivalent to {@link RecipeManager#getFirstMatch(net.minecraft.recipe.RecipeType, net.minecraft.inventory.Inventory, World)}
+     *
+     * @param world     World instance
+     * @param container Container to match
+     * @return Recipe, or null if no recipe matches
+     */
+    @Nullable
+    public static IMeltingRecipe findRecipe(World world, IMeltingContainer container) {
+        ItemStack stack = container.getStack();
+        if (stack.isEmpty()) {
+            return null;
+        }
+        for (IMeltingRecipe recipe : getIndex(world.getRecipeManager()).getCandidates(stack.getItem())) {
+            if (recipe.matches(container, world)) {
+                return recipe;
+            }
+        }
+        return null;
+    }
+}
@@ -72,6 +72,7 @@ public abstract class AbstractModifierRecipe implements ITinkerStationRecipe, ID
     /**
      * Ingredient representing the required tool, typically a tag
      */
+    @Getter
     protected final Ingredient toolRequirement;
     /**
      * Max size of the tool for this modifier. If the tool size is smaller, the stack will reduce by less
@@ -95,6 +96,7 @@ public abstract class AbstractModifierRecipe implements ITinkerStationRecipe, ID
     /**
      * If true, this recipe can be applied using modifier crystals
      */
+    @Getter
     protected final boolean allowCrystal;
     /**
      * If true, validates the level against the trait level. False validates against recipe modifiers only.
@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.math.IntMath;
 import com.google.gson.JsonObject;
 import io.github.fabricators_of_create.porting_lib.transfer.item.ItemHandlerHelper;
+import lombok.Getter;
 import net.minecraft.item.ItemStack;
 import net.minecraft.recipe.Ingredient;
 import net.minecraft.recipe.RecipeSerializer;
@@ -52,6 +53,7 @@ public class IncrementalModifierRecipe extends AbstractModifierRecipe {
     /**
      * Input ingredient, size controlled by later integers
      */
+    @Getter
     private final Ingredient input;
     /**
      * Number each input item counts as
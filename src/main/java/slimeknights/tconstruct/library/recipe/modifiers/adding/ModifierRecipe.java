@@ -1,5 +1,6 @@
 package slimeknights.tconstruct.library.recipe.modifiers.adding;
 
+import lombok.Getter;
 import net.minecraft.registry.DynamicRegistryManager;
 import slimeknights.mantle.data.loadable.field.ContextKey;
 import slimeknights.mantle.data.loadable.field.LoadableField;
@@ -41,6 +42,7 @@ public class ModifierRecipe extends AbstractModifierRecipe {
      * Order matters, as if a ingredient matches multiple ingredients it may produce unexpected behavior.
      * Making the most strict first will produce the best behavior
      */
+    @Getter
     protected final List<SizedIngredient> inputs;
 
     public ModifierRecipe(Identifier id, List<SizedIngredient> inputs, Ingredient toolRequirement, int maxToolSize, ModifierId result, IntRange level, @Nullable SlotCount slots, boolean allowCrystal, boolean checkTraitLevel) {
@@ -45,6 +45,7 @@ public class OverslimeModifierRecipe implements ITinkerStationRecipe, IDisplayMo
 
     @Getter
     private final Identifier id;
+    @Getter
     private final Ingredient ingredient;
     private final int restoreAmount;
 
@@ -0,0 +1,227 @@
+package slimeknights.tconstruct.library.recipe.tinkerstation;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.recipe.Ingredient;
+import net.minecraft.recipe.RecipeManager;
+import net.minecraft.registry.tag.TagKey;
+import net.minecraft.world.World;
+import slimeknights.mantle.recipe.helper.RecipeHelper;
+import slimeknights.mantle.recipe.ingredient.SizedIngredient;
+import slimeknights.tconstruct.common.TinkerTags;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.ItemRecipeIndex;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+import slimeknights.tconstruct.library.recipe.modifiers.adding.AbstractModifierRecipe;
+import slimeknights.tconstruct.library.recipe.modifiers.adding.IncrementalModifierRecipe;
+import slimeknights.tconstruct.library.recipe.modifiers.adding.ModifierRecipe;
+import slimeknights.tconstruct.library.recipe.modifiers.adding.OverslimeModifierRecipe;
+import slimeknights.tconstruct.library.recipe.tinkerstation.building.ToolBuildingRecipe;
+import slimeknights.tconstruct.library.recipe.tinkerstation.repairing.ModifierRepairTinkerStationRecipe;
+import slimeknights.tconstruct.library.tools.part.IToolPart;
+import slimeknights.tconstruct.tables.recipe.TinkerStationDamagingRecipe;
+import slimeknights.tconstruct.tables.recipe.TinkerStationPartSwapping;
+import slimeknights.tconstruct.tables.recipe.TinkerStationRepairRecipe;
+import slimeknights.tconstruct.tools.TinkerModifiers;
+import slimeknights.tconstruct.tools.recipe.ArmorDyeingRecipe;
+import slimeknights.tconstruct.tools.recipe.CreativeSlotRecipe;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Index of tinker station recipes by the item in the tool slot and the items in the input slots, replacing a linear scan over all recipes.
+ * Candidates are first narrowed by tool item, which covers the tool definition, then filtered by the input items. Candidates keep recipe order, so the first match is the same as a linear scan.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TinkerStationRecipeLookup {
+    /**
+     * Filters for all recipes in recipe order, null before the first lookup after a reload
+     */
+    @Nullable
+    private static volatile List<RecipeFilter> filters;
+    /**
+     * Candidate recipes for each tool item
+     */
+    private static final Map<Item, List<RecipeFilter>> BY_TOOL = new ConcurrentHashMap<>();
+
+    static {
+        RecipeCacheInvalidator.addReloadListener(client -> {
+            filters = null;
+            BY_TOOL.clear();
+        });
+    }
+
+    /**
+     * Creates a set of all items in the given ingredient, or null if not indexable
+     */
+    @Nullable
+    private static Set<Item> itemSet(Ingredient ingredient) {
+        List<Item> items = ItemRecipeIndex.getItems(ingredient);
+        return items == null ? null : new HashSet<>(items);
+    }
+
+    /**
+     * Creates a predicate for a tool matching the given tag
+     */
+    private static Predicate<Item> toolTag(TagKey<Item> tag) {
+        return item -> item.getRegistryEntry().isIn(tag);
+    }
+
+    /**
+     * Creates a predicate for a tool matching the given ingredient, or null if not indexable
+     */
+    @Nullable
+    private static Predicate<Item> toolIngredient(Ingredient ingredient) {
+        Set<Item> items = itemSet(ingredient);
+        return items == null ? null : items::contains;
+    }
+
+    /**
+     * Gets all input items accepted by the list of ingredients, or null if any is not indexable
+     */
+    @Nullable
+    private static Set<Item> inputItems(Collection<Ingredient> ingredients) {
+        Set<Item> items = new HashSet<>();
+        for (Ingredient ingredient : ingredients) {
+            List<Item> matching = ItemRecipeIndex.getItems(ingredient);
+            if (matching == null) {
+                return null;
+            }
+            items.addAll(matching);
+        }
+        return items;
+    }
+
+    /**
+     * Adds the modifier crystal to the accepted inputs if the recipe allows crystals
+     */
+    @Nullable
+    private static Set<Item> withCrystal(AbstractModifierRecipe recipe, @Nullable Set<Item> inputs) {
+        if (inputs != null && recipe.isAllowCrystal()) {
+            inputs.add(TinkerModifiers.modifierCrystal.asItem());
+        }
+        return inputs;
+    }
+
+    /**
+     * Creates the filter for the given recipe. Recipe types that are not known are always candidates.
+     */
+    private static RecipeFilter createFilter(ITinkerStationRecipe recipe) {
+        // all subclasses of modifier recipes share the base matches logic
+        if (recipe instanceof ModifierRecipe modifier) {
+            List<Ingredient> ingredients = modifier.getInputs().stream().map(SizedIngredient::getIngredient).toList();
+            return new RecipeFilter(recipe, toolIngredient(modifier.getToolRequirement()), withCrystal(modifier, inputItems(ingredients)));
+        }
+        if (recipe instanceof IncrementalModifierRecipe incremental) {
+            return new RecipeFilter(recipe, toolIngredient(incremental.getToolRequirement()), withCrystal(incremental, itemSet(incremental.getInput())));
+        }
+        // remaining types only check the tool using their own logic, so exact class matches are required in case a subclass changes it
+        Class<?> clazz = recipe.getClass();
+        if (clazz == OverslimeModifierRecipe.class) {
+            return new RecipeFilter(recipe, toolTag(TinkerTags.Items.DURABILITY), itemSet(((OverslimeModifierRecipe) recipe).getIngredient()));
+        }
+        if (clazz == TinkerStationDamagingRecipe.class) {
+            return new RecipeFilter(recipe, toolTag(TinkerTags.Items.DURABILITY), itemSet(((TinkerStationDamagingRecipe) recipe).getIngredient()));
+        }
+        if (clazz == ModifierRepairTinkerStationRecipe.class) {
+            return new RecipeFilter(recipe, toolTag(TinkerTags.Items.DURABILITY), itemSet(((ModifierRepairTinkerStationRecipe) recipe).getIngredient()));
+        }
+        if (clazz == TinkerStationRepairRecipe.class) {
+            return new RecipeFilter(recipe, toolTag(TinkerTags.Items.DURABILITY), null);
+        }
+        if (clazz == TinkerStationPartSwapping.class) {
+            return new RecipeFilter(recipe, toolTag(TinkerTags.Items.MULTIPART_TOOL), null);
+        }
+        if (clazz == CreativeSlotRecipe.class) {
+            return new RecipeFilter(recipe, toolTag(TinkerTags.Items.MODIFIABLE), null);
+        }
+        if (clazz == ArmorDyeingRecipe.class) {
+            return new RecipeFilter(recipe, toolIngredient(((ArmorDyeingRecipe) recipe).getToolRequirement()), null);
+        }
+        if (clazz == ToolBuildingRecipe.class) {
+            ToolBuildingRecipe building = (ToolBuildingRecipe) recipe;
+            Set<Item> inputs = inputItems(building.getExtraRequirements());
+            if (inputs != null) {
+                for (IToolPart part : building.getToolParts()) {
+                    inputs.add(part.asItem());
+                }
+            }
+            // building requires an empty tool slot
+            return new RecipeFilter(recipe, item -> item == Items.AIR, inputs);
+        }
+        return new RecipeFilter(recipe, null, null);
+    }
+
+    /**
+     * Gets the filters for all recipes, building them if needed
+     */
+    private static List<RecipeFilter> getFilters(RecipeManager manager) {
+        List<RecipeFilter> list = filters;
+        if (list == null) {
+            list = RecipeHelper.getRecipes(manager, TinkerRecipeTypes.TINKER_STATION.get(), ITinkerStationRecipe.class).stream()
+                    .map(TinkerStationRecipeLookup::createFilter).toList();
+            filters = list;
+        }
+        return list;
+    }
+
+    /**
+     * Finds the first tinker station recipe matching the given container
+     *
+     * @param world     World instance
+     * @param container Container to match
+     * @return Recipe, or null if no recipe matches
+     */
+    @Nullable
+    public static ITinkerStationRecipe findRecipe(World world, ITinkerStationContainer container) {
+        RecipeManager manager = world.getRecipeManager();
+        List<RecipeFilter> candidates = BY_TOOL.computeIfAbsent(container.getTinkerableStack().getItem(), item -> {
+            List<RecipeFilter> filtered = new ArrayList<>();
+            for (RecipeFilter filter : getFilters(manager)) {
+                if (filter.tool == null || filter.tool.test(item)) {
+                    filtered.add(filter);
+                }
+            }
+            return filtered.isEmpty() ? Collections.emptyList() : filtered;
+        });
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        // collect input items, most stations have few slots so the set is small
+        Set<Item> inputs = new HashSet<>();
+        for (int i = 0; i < container.getInputCount(); i++) {
+            ItemStack stack = container.getInput(i);
+            if (!stack.isEmpty()) {
+                inputs.add(stack.getItem());
+            }
+        }
+        for (RecipeFilter filter : candidates) {
+            if ((filter.inputs == null || filter.inputs.containsAll(inputs)) && filter.recipe.matches(container, world)) {
+                return filter.recipe;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Requirements a recipe places on the container, used to skip recipes that cannot match
+     *
+     * @param recipe Recipe
+     * @param tool   Items accepted in the tool slot, null if any may match
+     * @param inputs All items accepted in the input slots, null if any may match
+     */
+    private record RecipeFilter(ITinkerStationRecipe recipe, @Nullable Predicate<Item> tool, @Nullable Set<Item> inputs) {}
+}
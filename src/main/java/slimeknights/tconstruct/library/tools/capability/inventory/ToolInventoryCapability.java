@@ -35,6 +35,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -333,6 +334,65 @@ public class ToolInventoryCapability extends InventoryModifierHookIterator<Modif
         return result;
     }
 
+    /* Bulk operations */
+
+    /**
+     * Inserts the stack anywhere in the inventory in a single pass, merging into matching stacks before filling empty slots
+     *
+     * @param stack    Stack to insert, will not be modified
+     * @param simulate If true, the inventory is not modified
+     * @return Leftover stack that could not be inserted
+     */
+    public ItemStack insertItem(ItemStack stack, boolean simulate) {
+        if (stack.isEmpty() || isBlacklisted(stack)) {
+            return stack;
+        }
+        int slots = getSlots();
+        ItemStack remaining = stack;
+        // merge into existing stacks first so we do not spread the stack over empty slots
+        for (int slot = 0; slot < slots && !remaining.isEmpty(); slot++) {
+            ItemStack current = getStackInSlot(slot);
+            if (!current.isEmpty() && ItemHandlerHelper.canItemStacksStack(current, remaining)) {
+                remaining = insertItem(slot, remaining, simulate);
+            }
+        }
+        for (int slot = 0; slot < slots && !remaining.isEmpty(); slot++) {
+            if (getStackInSlot(slot).isEmpty()) {
+                remaining = insertItem(slot, remaining, simulate);
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * Extracts the first stack matching the filter in a single pass, combining it with matching stacks from later slots
+     *
+     * @param filter   Filter for the stack to extract
+     * @param amount   Maximum amount to extract, limited to the max stack size of the item
+     * @param simulate If true, the inventory is not modified
+     * @return Extracted stack, empty if nothing matched
+     */
+    public ItemStack extractItem(Predicate<ItemStack> filter, int amount, boolean simulate) {
+        ItemStack result = ItemStack.EMPTY;
+        int limit = amount;
+        int slots = getSlots();
+        for (int slot = 0; slot < slots && result.getCount() < limit; slot++) {
+            ItemStack current = getStackInSlot(slot);
+            if (current.isEmpty()) {
+                continue;
+            }
+            if (result.isEmpty()) {
+                if (filter.test(current)) {
+                    limit = Math.min(amount, current.getMaxCount());
+                    result = extractItem(slot, limit, simulate);
+                }
+            } else if (ItemHandlerHelper.canItemStacksStack(result, current)) {
+                result.increment(extractItem(slot, limit - result.getCount(), simulate).getCount());
+            }
+        }
+        return result;
+    }
+
     /**
      * Interface for an inventory modifier to use
      */
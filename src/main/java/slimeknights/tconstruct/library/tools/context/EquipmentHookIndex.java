@@ -0,0 +1,178 @@
+package slimeknights.tconstruct.library.tools.context;
+
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.ItemStack;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.common.TinkerTags;
+import slimeknights.tconstruct.library.modifiers.ModifierEntry;
+import slimeknights.tconstruct.library.module.ModuleHook;
+import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability;
+import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability.TinkerDataKey;
+import slimeknights.tconstruct.library.tools.helper.ModifierUtil;
+import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
+import slimeknights.tconstruct.library.tools.nbt.ToolStackCache;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the modifiers on an entity's equipment by the hooks they implement, so combat events only dispatch to modifiers that respond.
+ * Stored in the entity's {@link TinkerDataCapability}, invalidated on equipment change and revalidated against the equipped stacks on each fetch.
+ */
+public class EquipmentHookIndex {
+    /**
+     * Key for the index in tinker data
+     */
+    private static final TinkerDataKey<EquipmentHookIndex> KEY = TConstruct.createKey("equipment_hook_index");
+    /**
+     * All slots, saves cloning the values array
+     */
+    private static final EquipmentSlot[] SLOTS = EquipmentSlot.values();
+
+    /**
+     * Stacks the index was built from, indexed by {@link EquipmentSlot#getArmorStandSlotId()}
+     */
+    private final ItemStack[] stacks = new ItemStack[SLOTS.length];
+    /**
+     * Tools in each slot, null if the slot is not modifiable
+     */
+    private final IToolStackView[] tools = new IToolStackView[SLOTS.length];
+    /**
+     * Modifiers implementing each hook, built on first request
+     */
+    private final Map<ModuleHook<?>, List<HookEntry>> byHook = new IdentityHashMap<>();
+    /**
+     * If true, some slot contains a modifiable tool
+     */
+    private final boolean hasTools;
+
+    private EquipmentHookIndex(LivingEntity entity) {
+        boolean hasTools = false;
+        for (EquipmentSlot slot : SLOTS) {
+            int index = slot.getArmorStandSlotId();
+            ItemStack stack = entity.getEquippedStack(slot);
+            stacks[index] = stack;
+            tools[index] = getTool(stack);
+            hasTools |= tools[index] != null;
+        }
+        this.hasTools = hasTools;
+    }
+
+    /**
+     * Gets the tool for the given stack, or null if not modifiable
+     */
+    @Nullable
+    private static IToolStackView getTool(ItemStack stack) {
+        if (!stack.isEmpty() && stack.isIn(TinkerTags.Items.MODIFIABLE)) {
+            return ToolStackCache.from(stack);
+        }
+        return null;
+    }
+
+    /**
+     * Checks if this index still matches the entity's equipment
+     */
+    private boolean isValid(LivingEntity entity) {
+        for (EquipmentSlot slot : SLOTS) {
+            int index = slot.getArmorStandSlotId();
+            ItemStack stack = entity.getEquippedStack(slot);
+            // tool cache returns a new tool if the stack's NBT was replaced
+            if (stack != stacks[index] || (tools[index] != null && getTool(stack) != tools[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the index for the given entity, rebuilding it if the equipment changed
+     *
+     * @param entity Entity
+     * @return Hook index
+     */
+    public static EquipmentHookIndex get(LivingEntity entity) {
+        TinkerDataCapability.Holder data = entity.getCapability(TinkerDataCapability.CAPABILITY).resolve().orElse(null);
+        if (data == null) {
+            return new EquipmentHookIndex(entity);
+        }
+        EquipmentHookIndex index = data.get(KEY);
+        if (index == null || !index.isValid(entity)) {
+            index = new EquipmentHookIndex(entity);
+            data.put(KEY, index);
+        }
+        return index;
+    }
+
+    /**
+     * Clears the index for the given entity, called when its equipment changes
+     *
+     * @param entity Entity
+     */
+    public static void invalidate(LivingEntity entity) {
+        entity.getCapability(TinkerDataCapability.CAPABILITY).ifPresent(data -> data.remove(KEY));
+    }
+
+    /**
+     * Creates an equipment context using the tools in this index
+     *
+     * @param entity Entity owning this index
+     * @return Equipment context
+     */
+    public EquipmentContext createContext(LivingEntity entity) {
+        EquipmentContext context = new EquipmentContext(entity);
+        for (int i = 0; i < tools.length; i++) {
+            context.toolsInSlots[i] = tools[i];
+            context.fetchedTool[i] = true;
+        }
+        return context;
+    }
+
+    /**
+     * Gets all modifiers implementing the given hook, ordered by slot then by modifier order on the tool.
+     * Entries are included regardless of whether the tool is broken, as that may change between rebuilds.
+     *
+     * @param hook Hook
+     * @return Modifiers implementing the hook
+     */
+    public List<HookEntry> getEntries(ModuleHook<?> hook) {
+        if (!hasTools) {
+            return Collections.emptyList();
+        }
+        return byHook.computeIfAbsent(hook, this::buildEntries);
+    }
+
+    /**
+     * Finds all modifiers implementing the given hook
+     */
+    private List<HookEntry> buildEntries(ModuleHook<?> hook) {
+        List<HookEntry> entries = new ArrayList<>();
+        for (EquipmentSlot slot : SLOTS) {
+            IToolStackView tool = tools[slot.getArmorStandSlotId()];
+            if (tool != null) {
+                boolean validArmorSlot = ModifierUtil.validArmorSlot(tool, slot);
+                for (ModifierEntry entry : tool.getModifierList()) {
+                    if (entry.getModifier().hasHook(hook)) {
+                        entries.add(new HookEntry(slot, tool, entry, validArmorSlot));
+                    }
+                }
+            }
+        }
+        return entries.isEmpty() ? Collections.emptyList() : entries;
+    }
+
+    /**
+     * Single modifier implementing a hook
+     *
+     * @param slot           Slot containing the tool
+     * @param tool           Tool containing the modifier
+     * @param modifier       Modifier entry
+     * @param validArmorSlot Result of {@link ModifierUtil#validArmorSlot(IToolStackView, EquipmentSlot)} for the tool
+     */
+    public record HookEntry(EquipmentSlot slot, IToolStackView tool, ModifierEntry modifier, boolean validArmorSlot) {}
+}
@@ -3,13 +3,13 @@ package slimeknights.tconstruct.library.tools.definition;
 import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonElement;
 import lombok.extern.log4j.Log4j2;
-import net.minecraft.resource.JsonDataLoader;
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.profiler.Profiler;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.event.OnDatapackSyncEvent;
+import slimeknights.mantle.data.listener.ParallelJsonDataLoader;
 import slimeknights.mantle.util.JsonHelper;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 
@@ -23,7 +23,7 @@ import java.util.Map.Entry;
  * JSON loader that loads tool definitions from JSON
  */
 @Log4j2
-public class ToolDefinitionLoader extends JsonDataLoader {
+public class ToolDefinitionLoader extends ParallelJsonDataLoader {
     public static final String FOLDER = "tinkering/tool_definitions";
     private static final ToolDefinitionLoader INSTANCE = new ToolDefinitionLoader();
 
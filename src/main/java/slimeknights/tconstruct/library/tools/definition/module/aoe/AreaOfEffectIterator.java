@@ -9,6 +9,8 @@ import slimeknights.tconstruct.library.tools.definition.module.ToolModule;
 import slimeknights.tconstruct.library.tools.definition.module.mining.IsEffectiveToolHook;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -64,6 +66,24 @@ public interface AreaOfEffectIterator {
      */
     Iterable<BlockPos> getBlocks(IToolStackView tool, ItemStack stack, PlayerEntity player, BlockState state, World world, BlockPos origin, Direction sideHit, AOEMatchType matchType);
 
+    /**
+     * Gets a cursor to visit the blocks that the tool can affect, which can stop partway and resume later.
+     * Like {@link #getBlocks(IToolStackView, ItemStack, PlayerEntity, BlockState, World, BlockPos, Direction, AOEMatchType)}, fetch the cursor before breaking the origin when using {@link AOEMatchType#BREAKING}.
+     *
+     * @param tool      tool stack
+     * @param stack     item stack for vanilla methods
+     * @param player    the player using the tool
+     * @param state     state of the origin block
+     * @param world     the current world
+     * @param origin    the origin block spot to start from
+     * @param sideHit   side of the block that was hit
+     * @param matchType Type of match
+     * @return Cursor over the affected blocks
+     */
+    default BlockCursor visitBlocks(IToolStackView tool, ItemStack stack, PlayerEntity player, BlockState state, World world, BlockPos origin, Direction sideHit, AOEMatchType matchType) {
+        return new BlockCursor(this.getBlocks(tool, stack, player, state, world, origin, sideHit, matchType).iterator());
+    }
+
     /**
      * Gets the predicate for whether a given position can be broken in AOE
      *
@@ -100,6 +120,58 @@ public interface AreaOfEffectIterator {
         }
     }
 
+    /**
+     * Callback for {@link BlockCursor#visit(BlockVisitor)}
+     */
+    @FunctionalInterface
+    interface BlockVisitor {
+        /**
+         * Visits a single position
+         *
+         * @param pos Position, likely mutable so use {@link BlockPos#toImmutable()} to keep it
+         * @return False to stop visiting, the cursor will resume after this position
+         */
+        boolean visit(BlockPos pos);
+    }
+
+    /**
+     * Saved position in a set of AOE blocks, allowing a visitor to stop and continue later such as on a later tick
+     */
+    final class BlockCursor {
+        /**
+         * Cursor with no blocks
+         */
+        public static final BlockCursor EMPTY = new BlockCursor(Collections.emptyIterator());
+
+        private final Iterator<BlockPos> iterator;
+
+        public BlockCursor(Iterator<BlockPos> iterator) {
+            this.iterator = iterator;
+        }
+
+        /**
+         * Checks if all blocks were visited
+         */
+        public boolean isFinished() {
+            return !this.iterator.hasNext();
+        }
+
+        /**
+         * Visits the remaining blocks until the visitor stops
+         *
+         * @param visitor Visitor for each position
+         * @return True if all blocks were visited, false if blocks remain for a later call
+         */
+        public boolean visit(BlockVisitor visitor) {
+            while (this.iterator.hasNext()) {
+                if (!visitor.visit(this.iterator.next())) {
+                    return this.isFinished();
+                }
+            }
+            return true;
+        }
+    }
+
     /**
      * Match types for the AOE getter
      */
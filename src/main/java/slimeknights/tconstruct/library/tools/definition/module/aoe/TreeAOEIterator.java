@@ -1,16 +1,15 @@
 package slimeknights.tconstruct.library.tools.definition.module.aoe;
 
 import com.google.common.collect.AbstractIterator;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import slimeknights.mantle.data.loadable.primitive.IntLoadable;
 import slimeknights.mantle.data.loadable.record.RecordLoadable;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
-import java.util.ArrayDeque;
-import java.util.HashSet;
-import java.util.Queue;
-import java.util.Set;
-
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
@@ -93,17 +92,25 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
      */
     public static class TreeIterator extends AbstractIterator<BlockPos> {
         /**
-         * Queue of upcoming positions to try
+         * Queue of upcoming packed positions to try
+         */
+        private final LongArrayFIFOQueue upcomingPositions = new LongArrayFIFOQueue();
+        /**
+         * Direction and checked flag for each position in {@link #upcomingPositions}, see {@link #enqueue(long, Direction, boolean)}
          */
-        private final Queue<TreePos> upcomingPositions = new ArrayDeque<>();
+        private final IntArrayFIFOQueue upcomingData = new IntArrayFIFOQueue();
         /**
          * Position for returns, saves some object allocation
          */
         private final BlockPos.Mutable mutable = new BlockPos.Mutable();
         /**
-         * Branches that have been visited already
+         * Position currently being processed from the queue
          */
-        private final Set<BlockPos> branchVisited = new HashSet<>();
+        private final BlockPos.Mutable current = new BlockPos.Mutable();
+        /**
+         * Packed branch positions that have been visited already
+         */
+        private final LongSet branchVisited = new LongOpenHashSet();
 
         private final World world;
         private final Block filter;
@@ -117,7 +124,7 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
             this.filter = filter;
 
             // first, enqueue the origin
-            this.upcomingPositions.add(new TreePos(origin.up(), false));
+            this.enqueue(BlockPos.offset(origin.asLong(), Direction.UP), Direction.UP, false);
 
             // next, start adding AOE
             int minX = origin.getX();
@@ -132,7 +139,7 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
                             // if its valid, queue
                             this.mutable.set(origin).move(depthDir, d).move(widthDir, w);
                             if (this.isValidBlock(this.mutable)) {
-                                this.upcomingPositions.add(new TreePos(this.mutable, true));
+                                this.enqueue(this.mutable.asLong(), Direction.UP, true);
                                 // update bounds
                                 if (this.mutable.getX() < minX) minX = this.mutable.getX();
                                 if (this.mutable.getX() > maxX) maxX = this.mutable.getX();
@@ -149,6 +156,18 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
             this.maxZ = maxZ;
         }
 
+        /**
+         * Adds a position to the queue
+         *
+         * @param pos       Packed position
+         * @param direction Direction of travel, up for trunks
+         * @param isChecked If true, the position has been validated already for a log
+         */
+        private void enqueue(long pos, Direction direction, boolean isChecked) {
+            this.upcomingPositions.enqueue(pos);
+            this.upcomingData.enqueue(direction.getId() << 1 | (isChecked ? 1 : 0));
+        }
+
         /**
          * Checks if the position matches the filter block
          */
@@ -173,10 +192,9 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
             // find the distance to the nearest corner
             int deltaX = Math.min(Math.abs(pos.getX() - this.minX), Math.abs(pos.getX() - this.maxX));
             int deltaZ = Math.min(Math.abs(pos.getZ() - this.minZ), Math.abs(pos.getZ() - this.maxZ));
-            if ((deltaX + deltaZ) > MAX_BRANCH_DISTANCE || this.branchVisited.contains(pos)) {
+            if ((deltaX + deltaZ) > MAX_BRANCH_DISTANCE || !this.branchVisited.add(pos.asLong())) {
                 return false;
             }
-            this.branchVisited.add(pos.toImmutable());
             return this.isValidBlock(pos);
         }
 
@@ -184,7 +202,7 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
          * Adds a branch to the queue at the current mutable position
          */
         private void addBranch(Direction direction) {
-            this.upcomingPositions.add(new TreePos(this.mutable, direction));
+            this.enqueue(this.mutable.asLong(), direction, true);
         }
 
         /**
@@ -193,11 +211,11 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
         private void tryBranch(Direction direction) {
             // block must not have log both above and below it to count
             if (this.isBranch(this.mutable)) {
-                // copies position, so safe to change after
-                TreePos branchPos = new TreePos(this.mutable, direction);
+                // packed copy, so safe to change after
+                long branchPos = this.mutable.asLong();
                 // must have a non-solid block below, and must be a corner or be 1-2 blocks tall (dark oak support/jungle sapling thick branches)
                 if (!this.world.getBlockState(this.mutable.move(0, -1, 0)).isOpaque()) {
-                    this.upcomingPositions.add(branchPos);
+                    this.enqueue(branchPos, direction, true);
                 }
             }
         }
@@ -206,133 +224,101 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
         protected BlockPos computeNext() {
             while (!this.upcomingPositions.isEmpty()) {
                 // if the position matches the block, add it. Some positions are already added
-                TreePos treePos = this.upcomingPositions.remove();
+                long packed = this.upcomingPositions.dequeueLong();
+                int data = this.upcomingData.dequeueInt();
+                BlockPos pos = this.current.set(packed);
+                Direction treeDirection = Direction.byId(data >> 1);
 
                 // trunk logic
-                if (treePos.direction == Direction.UP) {
-                    boolean isTreeUp = treePos.isChecked || this.isValidBlock(treePos.pos);
+                if (treeDirection == Direction.UP) {
+                    boolean isTreeUp = (data & 1) != 0 || this.isValidBlock(pos);
 
                     // find branches in all 4 directions if going up, assuming we are in the
                     for (Direction direction : Type.HORIZONTAL) {
                         // if the position is a branch, meaning its a log with no log above it, queue it
-                        this.mutable.set(treePos.pos).move(direction);
+                        this.mutable.set(pos).move(direction);
                         // if we did not find a log at the current position, treat the position as our new tree, for acacia
                         this.tryBranch(!isTreeUp ? Direction.UP : direction);
                     }
 
                     if (isTreeUp) {
                         // corner case, only care if we have a tree at current position
-                        boolean isMinX = treePos.pos.getX() == this.minX;
-                        boolean isMaxX = treePos.pos.getX() == this.maxX;
-                        boolean isMinZ = treePos.pos.getZ() == this.minZ;
-                        boolean isMaxZ = treePos.pos.getZ() == this.maxZ;
+                        boolean isMinX = pos.getX() == this.minX;
+                        boolean isMaxX = pos.getX() == this.maxX;
+                        boolean isMinZ = pos.getZ() == this.minZ;
+                        boolean isMaxZ = pos.getZ() == this.maxZ;
                         // if either min or max on both axis, but not both (1x1), we are a corner, do corner case
                         if (isMinX) {
                             if (isMinZ) {
-                                this.mutable.set(treePos.pos).move(-1, 0, -1);
+                                this.mutable.set(pos).move(-1, 0, -1);
                                 this.tryBranch(Direction.WEST);
                             }
                             if (isMaxZ) {
-                                this.mutable.set(treePos.pos).move(-1, 0, 1);
+                                this.mutable.set(pos).move(-1, 0, 1);
                                 this.tryBranch(Direction.WEST);
                             }
                         }
                         if (isMaxX) {
                             if (isMinZ) {
-                                this.mutable.set(treePos.pos).move(1, 0, -1);
+                                this.mutable.set(pos).move(1, 0, -1);
                                 this.tryBranch(Direction.EAST);
                             }
                             if (isMaxZ) {
-                                this.mutable.set(treePos.pos).move(1, 0, 1);
+                                this.mutable.set(pos).move(1, 0, 1);
                                 this.tryBranch(Direction.EAST);
                             }
                         }
 
                         // finally, return this position
                         // insert the updated position into the queue and return the current position
-                        this.mutable.set(treePos.pos);
-                        this.upcomingPositions.add(treePos.move());
+                        this.mutable.set(pos);
+                        this.enqueue(BlockPos.offset(packed, treeDirection), treeDirection, false);
                         // acacia can continue outside the original trunk, so start marking it visited to prevent redundancy
-                        if (this.outsideTrunk(treePos.pos)) {
-                            this.branchVisited.add(treePos.pos);
+                        if (this.outsideTrunk(pos)) {
+                            this.branchVisited.add(packed);
                         }
                         return this.mutable;
                     }
                 } else {
                     // branch logic, should always be checked ahead of time (question is which further branches can we find)
                     // continue in same direction
-                    this.mutable.set(treePos.pos).move(0, 1, 0);
+                    this.mutable.set(pos).move(0, 1, 0);
                     if (this.isBranch(this.mutable)) {
-                        this.addBranch(treePos.direction);
+                        this.addBranch(treeDirection);
                         // just direction, no up
-                    } else if (this.isBranch(this.mutable.move(treePos.direction).move(0, -1, 0))) {
-                        this.addBranch(treePos.direction);
+                    } else if (this.isBranch(this.mutable.move(treeDirection).move(0, -1, 0))) {
+                        this.addBranch(treeDirection);
                         // direction and up
                     } else if (this.isBranch(this.mutable.move(0, 1, 0))) {
-                        this.addBranch(treePos.direction);
+                        this.addBranch(treeDirection);
                     }
                     // try each side, we check pos, above, then continuing the side
-                    Direction rotated = treePos.direction.rotateYClockwise();
-                    this.mutable.set(treePos.pos).move(rotated);
+                    Direction rotated = treeDirection.rotateYClockwise();
+                    this.mutable.set(pos).move(rotated);
                     if (this.isBranch(this.mutable)) {
                         this.addBranch(rotated);
                     } else if (this.isBranch(this.mutable.move(0, 1, 0))) {
                         this.addBranch(rotated);
-                    } else if (this.isBranch(this.mutable.move(treePos.direction).move(0, -1, 0))) {
+                    } else if (this.isBranch(this.mutable.move(treeDirection).move(0, -1, 0))) {
                         this.addBranch(rotated);
                     } else if (this.isBranch(this.mutable.move(0, 1, 0))) {
                         this.addBranch(rotated);
                     }
                     rotated = rotated.getOpposite();
-                    this.mutable.set(treePos.pos).move(rotated);
+                    this.mutable.set(pos).move(rotated);
                     if (this.isBranch(this.mutable)) {
                         this.addBranch(rotated);
                     } else if (this.isBranch(this.mutable.move(0, 1, 0))) {
                         this.addBranch(rotated);
-                    } else if (this.isBranch(this.mutable.move(treePos.direction).move(0, -1, 0))) {
+                    } else if (this.isBranch(this.mutable.move(treeDirection).move(0, -1, 0))) {
                         this.addBranch(rotated);
                     } else if (this.isBranch(this.mutable.move(0, 1, 0))) {
                         this.addBranch(rotated);
                     }
-                    return treePos.pos;
+                    return pos;
                 }
             }
             return this.endOfData();
         }
     }
-
-    /**
-     * Helper class for queue contents
-     */
-    private static class TreePos {
-        private final BlockPos.Mutable pos;
-        private final Direction direction;
-        /**
-         * If true, this position has been validated already for a log
-         */
-        private boolean isChecked;
-
-        TreePos(BlockPos pos, boolean isChecked) {
-            // note this copies the mutable if already mutable
-            this.pos = pos.mutableCopy();
-            this.direction = Direction.UP;
-            this.isChecked = isChecked;
-        }
-
-        TreePos(BlockPos pos, Direction direction) {
-            // note this copies the mutable if already mutable
-            this.pos = pos.mutableCopy();
-            this.direction = direction;
-            this.isChecked = true;
-        }
-
-        /**
-         * Moves the tree position in the given direction
-         */
-        public TreePos move() {
-            this.pos.move(this.direction);
-            this.isChecked = false;
-            return this;
-        }
-    }
 }
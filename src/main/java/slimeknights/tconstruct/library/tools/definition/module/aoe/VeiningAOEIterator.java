@@ -1,23 +1,30 @@
 package slimeknights.tconstruct.library.tools.definition.module.aoe;
 
 import com.google.common.collect.AbstractIterator;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import slimeknights.mantle.data.loadable.primitive.IntLoadable;
 import slimeknights.mantle.data.loadable.record.RecordLoadable;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
-import java.util.ArrayDeque;
-import java.util.HashSet;
-import java.util.Queue;
-import java.util.Set;
-
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Harvest logic that breaks a block plus neighbors of the same type
@@ -45,18 +52,46 @@ public record VeiningAOEIterator(int maxDistance) implements AreaOfEffectIterato
      * @param world       World instance
      * @param origin      Position origin
      * @param maxDistance Max distance to vein
-     * @return Iterator for veining
+     * @return Iterator for veining, positions returned are mutable
      */
     public static Iterable<BlockPos> calculate(BlockState state, World world, BlockPos origin, int maxDistance) {
         return () -> new VeiningIterator(world, origin, state.getBlock(), maxDistance);
     }
 
     /**
-     * Iterator that navigates block and other similar blocks
+     * Iterator that navigates block and other similar blocks.
+     * Reads states directly from chunk sections, skipping any section whose palette lacks the target block, and never loads chunks.
      */
     private static class VeiningIterator extends AbstractIterator<BlockPos> {
-        private final Set<BlockPos> visited = new HashSet<>();
-        private final Queue<DistancePos> queue = new ArrayDeque<>();
+        /**
+         * All directions, saves cloning the values array
+         */
+        private static final Direction[] DIRECTIONS = Direction.values();
+
+        /**
+         * Packed positions that have been queued, prevents adding a position twice
+         */
+        private final LongSet visited = new LongOpenHashSet();
+        /**
+         * Packed positions left to check
+         */
+        private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        /**
+         * Distance from the origin of each position in {@link #queue}
+         */
+        private final IntArrayFIFOQueue distances = new IntArrayFIFOQueue();
+        /**
+         * Chunk sections by packed section position, null if the section cannot contain the target
+         */
+        private final Long2ObjectMap<ChunkSection> sections = new Long2ObjectOpenHashMap<>();
+        /**
+         * Game time when {@link #sections} was filled. Deferred harvests resume this iterator on later ticks, by which point chunks may have reloaded or gained the target
+         */
+        private long sectionsTime;
+        /**
+         * Position for returns, saves some object allocation
+         */
+        private final BlockPos.Mutable mutable = new BlockPos.Mutable();
 
         private final World world;
         private final Block target;
@@ -66,55 +101,107 @@ public record VeiningAOEIterator(int maxDistance) implements AreaOfEffectIterato
             this.world = world;
             this.target = target;
             this.maxDistance = maxDistance;
+            this.sectionsTime = world.getTime();
             // make use of origin
-            visited.add(origin);
+            long packed = origin.asLong();
+            visited.add(packed);
             if (maxDistance > 0) {
                 // start off the queue with the position in each direction
-                enqueueNeighbors(origin, 1);
+                enqueueNeighbors(packed, 1);
             }
         }
 
         /**
          * Enqueues all neighbors of this position
          *
-         * @param pos      Position
+         * @param pos      Packed position
          * @param distance Distance for neighbors
          */
-        private void enqueueNeighbors(BlockPos pos, int distance) {
-            for (Direction direction : Direction.values()) {
-                BlockPos offset = pos.offset(direction);
-                if (!visited.contains(offset)) {
-                    visited.add(offset); // mark position visited to prevent adding again before we get to it
-                    queue.add(new DistancePos(offset, distance));
+        private void enqueueNeighbors(long pos, int distance) {
+            for (Direction direction : DIRECTIONS) {
+                long offset = BlockPos.offset(pos, direction);
+                // mark position visited to prevent adding again before we get to it
+                if (visited.add(offset)) {
+                    queue.enqueue(offset);
+                    distances.enqueue(distance);
                 }
             }
         }
 
+        /**
+         * Gets the section containing the given position
+         *
+         * @param x Block X position
+         * @param y Block Y position
+         * @param z Block Z position
+         * @return Section, or null if not loaded or its palette does not contain the target
+         */
+        @Nullable
+        private ChunkSection getSection(int x, int y, int z) {
+            long key = ChunkSectionPos.asLong(ChunkSectionPos.getSectionCoord(x), ChunkSectionPos.getSectionCoord(y), ChunkSectionPos.getSectionCoord(z));
+            ChunkSection section = sections.get(key);
+            if (section == null && !sections.containsKey(key)) {
+                section = findSection(x, y, z);
+                sections.put(key, section);
+            }
+            return section;
+        }
+
+        /**
+         * Looks up the section containing the given position in the world
+         */
+        @Nullable
+        private ChunkSection findSection(int x, int y, int z) {
+            if (world.isOutOfHeightLimit(y)) {
+                return null;
+            }
+            Chunk chunk = world.getChunk(ChunkSectionPos.getSectionCoord(x), ChunkSectionPos.getSectionCoord(z), ChunkStatus.FULL, false);
+            if (chunk == null) {
+                return null;
+            }
+            ChunkSection section = chunk.getSection(world.getSectionIndex(y));
+            // palette check is a lot cheaper than checking each position in a section that cannot match
+            if (section.isEmpty() || !section.hasAny(state -> state.isOf(target))) {
+                return null;
+            }
+            return section;
+        }
+
+        /**
+         * Checks if the given position contains the target block
+         */
+        private boolean matches(long pos) {
+            int x = BlockPos.unpackLongX(pos);
+            int y = BlockPos.unpackLongY(pos);
+            int z = BlockPos.unpackLongZ(pos);
+            ChunkSection section = getSection(x, y, z);
+            return section != null && section.getBlockState(x & 15, y & 15, z & 15).isOf(target);
+        }
+
         @Override
         protected BlockPos computeNext() {
+            // sections are only trusted within the tick they were looked up
+            long time = world.getTime();
+            if (time != sectionsTime) {
+                sections.clear();
+                sectionsTime = time;
+            }
             while (!queue.isEmpty()) {
                 // grab the next queued position to check
-                DistancePos distancePos = queue.remove();
-                BlockPos pos = distancePos.pos;
+                long pos = queue.dequeueLong();
+                int distance = distances.dequeueInt();
                 // must be a valid block
-                if (world.getBlockState(pos).isOf(target)) {
+                if (matches(pos)) {
                     // if not at max distance yet, add blocks on all sides
-                    int distance = distancePos.distance;
                     if (distance < maxDistance) {
                         enqueueNeighbors(pos, distance + 1);
                     }
                     // finally, return the position
-                    return pos;
+                    return mutable.set(pos);
                 }
             }
             // queue ran out of data
             return endOfData();
         }
     }
-
-    /**
-     * Helper data class
-     */
-    private record DistancePos(BlockPos pos, int distance) {
-    }
 }
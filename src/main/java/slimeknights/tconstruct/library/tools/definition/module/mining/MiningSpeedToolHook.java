@@ -2,7 +2,7 @@ package slimeknights.tconstruct.library.tools.definition.module.mining;
 
 import slimeknights.tconstruct.library.tools.definition.module.ToolHooks;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
-import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ToolStackCache;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 
 import java.util.Collection;
@@ -26,7 +26,7 @@ public interface MiningSpeedToolHook {
         if (!tool.hasNbt()) {
             return 1;
         }
-        return getDestroySpeed(ToolStack.from(tool), state);
+        return getDestroySpeed(ToolStackCache.from(tool), state);
     }
 
     /**
@@ -0,0 +1,90 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent.LevelTickEvent;
+import net.minecraftforge.event.TickEvent.Phase;
+import slimeknights.tconstruct.library.tools.context.ToolHarvestContext;
+import slimeknights.tconstruct.library.tools.definition.module.aoe.AreaOfEffectIterator.BlockCursor;
+import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ToolStackCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * AOE harvest that exceeded the per tick block budget, finished over the following ticks.
+ * Cancelled if the player stops holding the tool, changes worlds, or the tool breaks.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class DeferredHarvest {
+    /**
+     * Pending harvests in each world
+     */
+    private static final Map<World, List<DeferredHarvest>> PENDING = new WeakHashMap<>();
+
+    private final ServerPlayerEntity player;
+    private final ItemStack stack;
+    private final ToolHarvestContext context;
+    private final BlockCursor cursor;
+
+    /**
+     * Registers event handlers
+     */
+    public static void init() {
+        MinecraftForge.EVENT_BUS.addListener(DeferredHarvest::onLevelTick);
+    }
+
+    /**
+     * Queues the remainder of a harvest to continue next tick
+     *
+     * @param player   Player harvesting
+     * @param stack    Tool stack being used
+     * @param context  Harvest context for the originally targeted block
+     * @param cursor   Cursor over the remaining extra blocks
+     */
+    static void queue(ServerPlayerEntity player, ItemStack stack, ToolHarvestContext context, BlockCursor cursor) {
+        PENDING.computeIfAbsent(context.getWorld(), w -> new ArrayList<>()).add(new DeferredHarvest(player, stack, context, cursor));
+    }
+
+    /**
+     * Breaks the next batch of blocks
+     *
+     * @return True if blocks remain for a later tick
+     */
+    private boolean run() {
+        // stop if the player is no longer in a position to harvest with this tool
+        if (player.isRemoved() || player.getWorld() != context.getWorld() || player.getMainHandStack() != stack) {
+            return false;
+        }
+        ToolStack tool = ToolStackCache.from(stack);
+        if (tool.isBroken()) {
+            return false;
+        }
+        return !ToolHarvestLogic.continueHarvest(tool, stack, context, cursor);
+    }
+
+    /**
+     * Continues all pending harvests in the world
+     */
+    private static void onLevelTick(LevelTickEvent event) {
+        if (event.phase == Phase.END && event.level instanceof ServerWorld world) {
+            // removed before running so harvests queued while running wait for the next tick
+            List<DeferredHarvest> pending = PENDING.remove(world);
+            if (pending != null) {
+                for (DeferredHarvest harvest : pending) {
+                    if (harvest.run()) {
+                        PENDING.computeIfAbsent(world, w -> new ArrayList<>()).add(harvest);
+                    }
+                }
+            }
+        }
+    }
+}
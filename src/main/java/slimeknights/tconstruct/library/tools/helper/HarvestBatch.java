@@ -0,0 +1,200 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.block.Block;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.ItemEntity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Batches the side effects of breaking the extra blocks of an AOE harvest, so they are paid once for the batch rather than once per block.
+ * While active, item drops at the broken positions are merged into as few item entities as possible, and neighbor updates are deferred until the batch finishes.
+ * Tool damage modifiers still run once per block, only setting the final damage is deferred.
+ * Only used serverside, all access is from the server thread.
+ */
+public class HarvestBatch implements AutoCloseable {
+    /**
+     * Currently running batches, most recent first. Batches may nest if breaking a block starts another harvest
+     */
+    private static final Deque<HarvestBatch> ACTIVE = new ArrayDeque<>();
+    /**
+     * Set once a batch removed blocks without deferring any neighbor updates, so the warning is only logged once
+     */
+    private static boolean warnedNotDeferred = false;
+
+    private final ServerWorld world;
+    private final IToolStackView tool;
+    private final LivingEntity holder;
+    /**
+     * Item entities captured during the batch, each holding the merged drops of its item
+     */
+    private final List<ItemEntity> drops = new ArrayList<>();
+    /**
+     * Positions needing a neighbor update once the batch finishes, in the order they were requested
+     */
+    private final Long2ObjectMap<Block> neighborUpdates = new Long2ObjectLinkedOpenHashMap<>();
+    /**
+     * Positions broken by this batch, drops are only captured at these positions
+     */
+    private final LongSet positions = new LongOpenHashSet();
+    /**
+     * Damage remaining after modifier hooks to apply to the tool once the batch finishes
+     */
+    private int damage = 0;
+
+    private HarvestBatch(ServerWorld world, IToolStackView tool, LivingEntity holder) {
+        this.world = world;
+        this.tool = tool;
+        this.holder = holder;
+    }
+
+    /**
+     * Starts a new batch, should be used in a try with resources to ensure the batch is finished
+     *
+     * @param world  World being harvested
+     * @param tool   Tool harvesting
+     * @param holder Entity holding the tool
+     * @return Batch instance
+     */
+    public static HarvestBatch start(ServerWorld world, IToolStackView tool, LivingEntity holder) {
+        HarvestBatch batch = new HarvestBatch(world, tool, holder);
+        ACTIVE.push(batch);
+        return batch;
+    }
+
+    /**
+     * Marks a position as broken by this batch, so drops spawned there are captured
+     *
+     * @param pos Position about to be broken
+     */
+    public void addPosition(BlockPos pos) {
+        positions.add(pos.asLong());
+    }
+
+    /**
+     * Damages the tool, deferring setting the damage if a batch is running for the tool
+     *
+     * @param tool   Tool to damage
+     * @param amount Amount of damage
+     * @param holder Entity holding the tool
+     */
+    public static void damageTool(IToolStackView tool, int amount, LivingEntity holder) {
+        for (HarvestBatch batch : ACTIVE) {
+            if (batch.tool == tool) {
+                // modifiers run per block so the result matches breaking the blocks one at a time
+                batch.damage += ToolDamageUtil.runDamageHooks(tool, amount, holder);
+                // sequential breaking stops running modifiers once the tool breaks, so apply the damage early if it could break the tool
+                if (batch.damage >= tool.getCurrentDurability()) {
+                    batch.applyDamage();
+                }
+                return;
+            }
+        }
+        ToolDamageUtil.damageAnimated(tool, amount, holder);
+    }
+
+    /**
+     * Called when an entity spawns to capture drops from the batch
+     *
+     * @param world  World spawning the entity
+     * @param entity Entity being spawned
+     * @return True if the entity was captured, meaning it should not be spawned
+     */
+    public static boolean captureDrop(World world, Entity entity) {
+        if (ACTIVE.isEmpty() || !(entity instanceof ItemEntity itemEntity)) {
+            return false;
+        }
+        // block drops spawn within the block space, anything else spawned during the batch is left alone
+        long pos = itemEntity.getBlockPos().asLong();
+        for (HarvestBatch batch : ACTIVE) {
+            if (batch.world == world && batch.positions.contains(pos)) {
+                batch.addDrop(itemEntity);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds a drop to the batch, merging it into an existing drop if possible
+     */
+    private void addDrop(ItemEntity itemEntity) {
+        ItemStack stack = itemEntity.getStack();
+        for (ItemEntity existing : drops) {
+            ItemStack target = existing.getStack();
+            if (ItemEntity.canMerge(target, stack)) {
+                existing.setStack(ItemEntity.merge(target, stack, target.getMaxCount()));
+                return;
+            }
+        }
+        drops.add(itemEntity);
+    }
+
+    /**
+     * Called when a block notifies its neighbors to defer the update until the batch finishes
+     *
+     * @param world  World notifying neighbors
+     * @param pos    Position whose neighbors are notified
+     * @param source Block causing the update
+     * @return True if the update was deferred, meaning it should not run now
+     */
+    public static boolean deferNeighborUpdate(ServerWorld world, BlockPos pos, Block source) {
+        HarvestBatch batch = ACTIVE.peek();
+        if (batch == null || batch.world != world) {
+            return false;
+        }
+        batch.neighborUpdates.put(pos.asLong(), source);
+        return true;
+    }
+
+    /**
+     * Applies any pending tool damage, modifier hooks already ran as the damage was added
+     */
+    private void applyDamage() {
+        if (damage > 0) {
+            int amount = damage;
+            damage = 0;
+            Hand hand = holder.isUsingItem() ? holder.getActiveHand() : Hand.MAIN_HAND;
+            if (ToolDamageUtil.directDamage(tool, amount, holder, holder.getStackInHand(hand))) {
+                holder.sendToolBreakStatus(hand);
+            }
+        }
+    }
+
+    /**
+     * Finishes the batch, running deferred neighbor updates, spawning drops, and damaging the tool
+     */
+    @Override
+    public void close() {
+        ACTIVE.remove(this);
+        // removing a block always notifies neighbors, so if none were deferred the world hook is not running
+        if (neighborUpdates.isEmpty() && !warnedNotDeferred && positions.longStream().anyMatch(pos -> world.getBlockState(BlockPos.fromLong(pos)).isAir())) {
+            warnedNotDeferred = true;
+            TConstruct.LOG.warn("AOE harvest removed blocks without deferring neighbor updates, neighbor update batching is not working");
+        }
+        // neighbor updates run against the final world state, so blocks broken later in the batch are not updated in between
+        // position must be immutable as the neighbor updater may queue it
+        for (Long2ObjectMap.Entry<Block> entry : neighborUpdates.long2ObjectEntrySet()) {
+            world.updateNeighbors(BlockPos.fromLong(entry.getLongKey()), entry.getValue());
+        }
+        for (ItemEntity drop : drops) {
+            world.spawnEntity(drop);
+        }
+        applyDamage();
+    }
+}
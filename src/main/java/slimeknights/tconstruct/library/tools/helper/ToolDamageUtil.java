@@ -90,8 +90,21 @@ public class ToolDamageUtil {
      * @return true if the tool broke when damaging
      */
     public static boolean damage(IToolStackView tool, int amount, @Nullable LivingEntity entity, @Nullable ItemStack stack) {
+        amount = runDamageHooks(tool, amount, entity);
+        return amount > 0 && directDamage(tool, amount, entity, stack);
+    }
+
+    /**
+     * Runs the tool damage modifier hooks without applying the damage
+     *
+     * @param tool   Tool to damage
+     * @param amount Amount to damage
+     * @param entity Entity holding the tool
+     * @return Damage remaining after modifiers, 0 if the tool should not be damaged
+     */
+    public static int runDamageHooks(IToolStackView tool, int amount, @Nullable LivingEntity entity) {
         if (amount <= 0 || tool.isBroken() || tool.isUnbreakable() || !tool.hasTag(TinkerTags.Items.DURABILITY)) {
-            return false;
+            return 0;
         }
 
         // try each modifier
@@ -99,10 +112,10 @@ public class ToolDamageUtil {
             amount = entry.getHook(ModifierHooks.TOOL_DAMAGE).onDamageTool(tool, entry, amount, entity);
             // if no more damage, done
             if (amount <= 0) {
-                return false;
+                return 0;
             }
         }
-        return directDamage(tool, amount, entity, stack);
+        return amount;
     }
 
     /**
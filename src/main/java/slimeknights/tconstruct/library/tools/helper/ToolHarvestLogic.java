@@ -20,6 +20,7 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.ToolActions;
 import slimeknights.tconstruct.common.TinkerTags;
+import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierHooks;
@@ -27,12 +28,13 @@ import slimeknights.tconstruct.library.modifiers.hook.mining.HarvestEnchantments
 import slimeknights.tconstruct.library.tools.context.ToolHarvestContext;
 import slimeknights.tconstruct.library.tools.definition.module.ToolHooks;
 import slimeknights.tconstruct.library.tools.definition.module.aoe.AreaOfEffectIterator;
+import slimeknights.tconstruct.library.tools.definition.module.aoe.AreaOfEffectIterator.BlockCursor;
 import slimeknights.tconstruct.library.tools.definition.module.mining.IsEffectiveToolHook;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ToolStackCache;
 import slimeknights.tconstruct.library.utils.BlockSideHitListener;
 
-import java.util.Collections;
 import java.util.Objects;
 
 /**
@@ -145,7 +147,7 @@ public class ToolHarvestLogic {
             for (ModifierEntry entry : tool.getModifierList()) {
                 entry.getHook(ModifierHooks.BLOCK_BREAK).afterBlockBreak(tool, entry, context);
             }
-            ToolDamageUtil.damageAnimated(tool, damage, player);
+            HarvestBatch.damageTool(tool, damage, player);
         }
 
         return true;
@@ -172,6 +174,63 @@ public class ToolHarvestLogic {
         }
     }
 
+    /**
+     * Breaks extra blocks from an AOE iterator, stopping once {@link Config.Common#aoeBlocksPerTick} blocks are broken
+     *
+     * @param tool     Tool instance
+     * @param stack    Stack instance for vanilla functions
+     * @param context  Harvest context for the targeted block
+     * @param cursor   Cursor over the extra blocks to break
+     * @return True if the cursor was exhausted, false if blocks remain for a later tick
+     */
+    static boolean breakExtraBlocks(ToolStack tool, ItemStack stack, ToolHarvestContext context, BlockCursor cursor) {
+        int budget = Config.COMMON.aoeBlocksPerTick.get();
+        ServerWorld world = context.getWorld();
+        // batch the extra blocks so drops, tool damage, and neighbor updates are handled once
+        try (HarvestBatch batch = HarvestBatch.start(world, tool, context.getLiving())) {
+            int[] broken = {0};
+            return cursor.visit(extraPos -> {
+                BlockState extraState = world.getBlockState(extraPos);
+                // prevent calling that stuff for air blocks, could lead to unexpected behaviour since it fires events
+                // this should never actually happen, but just in case some AOE is odd
+                if (!extraState.isAir()) {
+                    // prevent mutable position leak, breakBlock has a few places wanting immutable
+                    BlockPos immutable = extraPos.toImmutable();
+                    batch.addPosition(immutable);
+                    breakExtraBlock(tool, stack, context.forPosition(immutable, extraState));
+                    broken[0]++;
+                }
+                // stop once the budget is used, the cursor continues from here on a later tick
+                return budget <= 0 || broken[0] < budget;
+            });
+        }
+    }
+
+    /**
+     * Continues breaking extra blocks from a harvest that ran out of budget on a previous tick
+     *
+     * @param tool     Tool instance
+     * @param stack    Stack instance for vanilla functions
+     * @param context  Harvest context for the originally targeted block
+     * @param cursor   Cursor over the remaining extra blocks
+     * @return True if the cursor was exhausted, false if blocks remain for a later tick
+     */
+    static boolean continueHarvest(ToolStack tool, ItemStack stack, ToolHarvestContext context, BlockCursor cursor) {
+        // each tick is a harvest of its own for modifiers
+        for (ModifierEntry entry : tool.getModifierList()) {
+            entry.getHook(ModifierHooks.BLOCK_HARVEST).startHarvest(tool, entry, context);
+        }
+        NbtList originalEnchantments = HarvestEnchantmentsModifierHook.updateHarvestEnchantments(tool, stack, context);
+        boolean finished = breakExtraBlocks(tool, stack, context, cursor);
+        if (originalEnchantments != null) {
+            HarvestEnchantmentsModifierHook.restoreEnchantments(stack, originalEnchantments);
+        }
+        for (ModifierEntry entry : tool.getModifierList()) {
+            entry.getHook(ModifierHooks.BLOCK_HARVEST).finishHarvest(tool, entry, context, true);
+        }
+        return finished;
+    }
+
     /**
      * Call on block break to break a block.
      * Used in {@link net.minecraftforge.common.extensions.IForgeItem#onBlockStartBreak(ItemStack, BlockPos, Player)}.
@@ -208,7 +267,7 @@ public class ToolHarvestLogic {
 
         // create contexts
         ServerWorld world = serverPlayer.getServerWorld();
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         BlockState state = world.getBlockState(pos);
         Direction sideHit = BlockSideHitListener.getSideHit(player);
 
@@ -234,19 +293,14 @@ public class ToolHarvestLogic {
             // TODO: should we have a hook for non-enchantment armor responses?
             NbtList originalEnchantments = HarvestEnchantmentsModifierHook.updateHarvestEnchantments(tool, stack, context);
             // need to calculate the iterator before we break the block, as we need the reference hardness from the center
-            Iterable<BlockPos> extraBlocks = context.isEffective() ? tool.getHook(ToolHooks.AOE_ITERATOR).getBlocks(tool, stack, player, state, world, pos, sideHit, AreaOfEffectIterator.AOEMatchType.BREAKING) : Collections.emptyList();
+            BlockCursor extraBlocks = context.isEffective() ? tool.getHook(ToolHooks.AOE_ITERATOR).visitBlocks(tool, stack, player, state, world, pos, sideHit, AreaOfEffectIterator.AOEMatchType.BREAKING) : BlockCursor.EMPTY;
 
             // actually break the block, run AOE if successful
             boolean didHarvest = breakBlock(tool, stack, context);
             if (didHarvest) {
-                for (BlockPos extraPos : extraBlocks) {
-                    BlockState extraState = world.getBlockState(extraPos);
-                    // prevent calling that stuff for air blocks, could lead to unexpected behaviour since it fires events
-                    // this should never actually happen, but just in case some AOE is odd
-                    if (!extraState.isAir()) {
-                        // prevent mutable position leak, breakBlock has a few places wanting immutable
-                        breakExtraBlock(tool, stack, context.forPosition(extraPos.toImmutable(), extraState));
-                    }
+                if (!extraBlocks.isFinished() && !breakExtraBlocks(tool, stack, context, extraBlocks)) {
+                    // ran out of budget, finish the AOE over the following ticks
+                    DeferredHarvest.queue(serverPlayer, stack, context, extraBlocks);
                 }
             }
             // restore the enchantments harvest changed
@@ -266,7 +320,7 @@ public class ToolHarvestLogic {
      * Handles {@link net.minecraft.item.Item#postMine(net.minecraft.item.ItemStack, net.minecraft.world.World, net.minecraft.block.BlockState, net.minecraft.util.math.BlockPos, net.minecraft.entity.LivingEntity)} for modifiable items
      */
     public static boolean mineBlock(ItemStack stack, World worldIn, BlockState state, BlockPos pos, LivingEntity entityLiving) {
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         if (tool.isBroken()) {
             return false;
         }
@@ -0,0 +1,78 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.client.item.TooltipContext;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.text.Text;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
+import slimeknights.mantle.client.TooltipKey;
+import slimeknights.mantle.data.listener.ISafeManagerReloadListener;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Cache of built tool tooltips, so hovering a tool or displaying it in a recipe viewer does not rebuild every line each frame.
+ * Entries are keyed on the stack NBT and tooltip flags, so any change to the tool's stats or modifiers builds a new entry.
+ * Only tooltips that do not depend on the player should be cached, as modifier tooltip hooks may respond to the player's current state.
+ */
+public class ToolTooltipCache {
+    /**
+     * Cached tooltips, bounded to evict the least recently used tools
+     */
+    private static final Cache<CacheKey, List<Text>> CACHE = CacheBuilder.newBuilder().maximumSize(256).build();
+
+    /**
+     * Clears the cache on resource reload, as names and colors may have changed
+     */
+    private static final ISafeManagerReloadListener RELOAD_LISTENER = manager -> CACHE.invalidateAll();
+
+    static {
+        // clear on datapack reload, as modifiers and materials may have changed
+        RecipeCacheInvalidator.addReloadListener(client -> CACHE.invalidateAll());
+    }
+
+    private ToolTooltipCache() {
+    }
+
+    /**
+     * Called during the event to initialize the cache invalidators
+     */
+    public static void init(RegisterClientReloadListenersEvent manager) {
+        manager.registerReloadListener(RELOAD_LISTENER);
+    }
+
+    /**
+     * Adds the tooltip for the given stack, building it if not cached
+     *
+     * @param stack   Stack to display
+     * @param key     Tooltip key held
+     * @param flag    Tooltip flag
+     * @param tooltip Tooltip list to fill
+     * @param builder Logic to build the tooltip on cache miss, must only depend on the stack, key, and flag
+     */
+    public static void addTooltip(ItemStack stack, TooltipKey key, TooltipContext flag, List<Text> tooltip, Consumer<List<Text>> builder) {
+        NbtCompound nbt = stack.getNbt();
+        List<Text> cached = CACHE.getIfPresent(new CacheKey(stack.getItem(), nbt, key, flag));
+        if (cached == null) {
+            List<Text> built = new ArrayList<>();
+            builder.accept(built);
+            cached = List.copyOf(built);
+            // copy the NBT for the stored key, as the stack may be modified in place later
+            CACHE.put(new CacheKey(stack.getItem(), nbt == null ? null : nbt.copy(), key, flag), cached);
+        }
+        tooltip.addAll(cached);
+    }
+
+    /**
+     * Key for the cache
+     */
+    private record CacheKey(Item item, @Nullable NbtCompound nbt, TooltipKey key, TooltipContext flag) {}
+}
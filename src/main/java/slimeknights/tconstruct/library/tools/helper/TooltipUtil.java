@@ -324,18 +324,18 @@ public class TooltipUtil {
             }
         } else {
             switch (tooltipKey) {
+                // stats are not cached as modifier tooltips may depend on the player
                 case SHIFT:
                     item.getStatInformation(ToolStack.from(stack), player, tooltip, tooltipKey, tooltipFlag);
                     break;
                 case CONTROL:
                     if (definition.hasMaterials()) {
-                        getComponents(item, stack, tooltip, tooltipFlag);
+                        ToolTooltipCache.addTooltip(stack, tooltipKey, tooltipFlag, tooltip, list -> getComponents(item, stack, list, tooltipFlag));
                         break;
                     }
                     // intentional fallthrough
                 default:
-                    ToolStack tool = ToolStack.from(stack);
-                    getDefaultInfo(stack, tool, tooltip, tooltipFlag);
+                    ToolTooltipCache.addTooltip(stack, tooltipKey, tooltipFlag, tooltip, list -> getDefaultInfo(stack, ToolStack.from(stack), list, tooltipFlag));
                     break;
             }
         }
@@ -56,6 +56,7 @@ import slimeknights.tconstruct.library.tools.helper.TooltipUtil;
 import slimeknights.tconstruct.library.tools.nbt.IModDataView;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ToolStackCache;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 import slimeknights.tconstruct.library.utils.Util;
 import slimeknights.tconstruct.tools.TinkerToolActions;
@@ -191,7 +192,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
         if (!isDamageable()) {
             return 0;
         }
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         int durability = tool.getStats().getInt(ToolStats.DURABILITY);
         // vanilla deletes tools if max damage == getDamage, so tell vanilla our max is one higher when broken
         return tool.isBroken() ? durability + 1 : durability;
@@ -202,13 +203,13 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
         if (!isDamageable()) {
             return 0;
         }
-        return ToolStack.from(stack).getDamage();
+        return ToolStackCache.from(stack).getDamage();
     }
 
     @Override
     public void setDamage(ItemStack stack, int damage) {
         if (isDamageable()) {
-            ToolStack.from(stack).setDamage(damage);
+            ToolStackCache.from(stack).setDamage(damage);
         }
     }
 
@@ -255,7 +256,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
         if (nbt == null || slot.getType() != Type.HAND) {
             return ImmutableMultimap.of();
         }
-        return getAttributeModifiers(ToolStack.from(stack), slot);
+        return getAttributeModifiers(ToolStackCache.from(stack), slot);
     }
 
     @Override
@@ -268,7 +269,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
 
     @Override
     public boolean isCorrectToolForDrops(ItemStack stack, BlockState state) {
-        return IsEffectiveToolHook.isEffective(ToolStack.from(stack), state);
+        return IsEffectiveToolHook.isEffective(ToolStackCache.from(stack), state);
     }
 
     @Override
@@ -315,7 +316,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
     @Override
     public ActionResult onItemUseFirst(ItemStack stack, ItemUsageContext context) {
         if (stack.getCount() == 1) {
-            ToolStack tool = ToolStack.from(stack);
+            ToolStack tool = ToolStackCache.from(stack);
             Hand hand = context.getHand();
             if (shouldInteract(context.getPlayer(), tool, hand)) {
                 for (ModifierEntry entry : tool.getModifierList()) {
@@ -333,7 +334,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
     public ActionResult useOnBlock(ItemUsageContext context) {
         ItemStack stack = context.getStack();
         if (stack.getCount() == 1) {
-            ToolStack tool = ToolStack.from(stack);
+            ToolStack tool = ToolStackCache.from(stack);
             Hand hand = context.getHand();
             if (shouldInteract(context.getPlayer(), tool, hand)) {
                 for (ModifierEntry entry : tool.getModifierList()) {
@@ -349,7 +350,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
 
     @Override
     public ActionResult useOnEntity(ItemStack stack, PlayerEntity playerIn, LivingEntity target, Hand hand) {
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         if (shouldInteract(playerIn, tool, hand)) {
             for (ModifierEntry entry : tool.getModifierList()) {
                 ActionResult result = entry.getHook(ModifierHooks.ENTITY_INTERACT).afterEntityUse(tool, entry, playerIn, target, hand, InteractionSource.RIGHT_CLICK);
@@ -367,7 +368,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
         if (stack.getCount() > 1) {
             return TypedActionResult.pass(stack);
         }
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         if (shouldInteract(playerIn, tool, hand)) {
             for (ModifierEntry entry : tool.getModifierList()) {
                 ActionResult result = entry.getHook(ModifierHooks.GENERAL_INTERACT).onToolUse(tool, entry, playerIn, hand, InteractionSource.RIGHT_CLICK);
@@ -381,7 +382,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
 
     @Override
     public void usageTick(World pLevel, LivingEntity entityLiving, ItemStack stack, int timeLeft) {
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         ModifierEntry activeModifier = GeneralInteractionModifierHook.getActiveModifier(tool);
         if (activeModifier != ModifierEntry.EMPTY) {
             activeModifier.getHook(ModifierHooks.GENERAL_INTERACT).onUsingTick(tool, activeModifier, entityLiving, timeLeft);
@@ -392,7 +393,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
     public boolean canContinueUsing(ItemStack oldStack, ItemStack newStack) {
         if (super.canContinueUsing(oldStack, newStack)) {
             if (oldStack != newStack) {
-                GeneralInteractionModifierHook.finishUsing(ToolStack.from(oldStack));
+                GeneralInteractionModifierHook.finishUsing(ToolStackCache.from(oldStack));
             }
         }
         return super.canContinueUsing(oldStack, newStack);
@@ -400,7 +401,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
 
     @Override
     public ItemStack finishUsing(ItemStack stack, World worldIn, LivingEntity entityLiving) {
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         ModifierEntry activeModifier = GeneralInteractionModifierHook.getActiveModifier(tool);
         if (activeModifier != ModifierEntry.EMPTY) {
             activeModifier.getHook(ModifierHooks.GENERAL_INTERACT).onFinishUsing(tool, activeModifier, entityLiving);
@@ -411,7 +412,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
 
     @Override
     public void onStoppedUsing(ItemStack stack, World worldIn, LivingEntity entityLiving, int timeLeft) {
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         ModifierEntry activeModifier = GeneralInteractionModifierHook.getActiveModifier(tool);
         if (activeModifier != ModifierEntry.EMPTY) {
             activeModifier.getHook(ModifierHooks.GENERAL_INTERACT).onStoppedUsing(tool, activeModifier, entityLiving, timeLeft);
@@ -421,7 +422,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
 
     @Override
     public int getMaxUseTime(ItemStack stack) {
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         ModifierEntry activeModifier = GeneralInteractionModifierHook.getActiveModifier(tool);
         if (activeModifier != ModifierEntry.EMPTY) {
             return activeModifier.getHook(ModifierHooks.GENERAL_INTERACT).getUseDuration(tool, activeModifier);
@@ -431,7 +432,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
 
     @Override
     public UseAction getUseAction(ItemStack stack) {
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         ModifierEntry activeModifier = GeneralInteractionModifierHook.getActiveModifier(tool);
         if (activeModifier != ModifierEntry.EMPTY) {
             return activeModifier.getHook(ModifierHooks.GENERAL_INTERACT).getUseAction(tool, activeModifier);
@@ -441,7 +442,7 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
 
     @Override
     public boolean canPerformAction(ItemStack stack, ToolAction toolAction) {
-        return stack.getCount() == 1 && ModifierUtil.canPerformAction(ToolStack.from(stack), toolAction);
+        return stack.getCount() == 1 && ModifierUtil.canPerformAction(ToolStackCache.from(stack), toolAction);
     }
 
 
@@ -501,8 +502,8 @@ public class ModifiableItem extends Item implements IModifiableDisplay {
         }
 
         // if the tool props changed,
-        ToolStack oldTool = ToolStack.from(oldStack);
-        ToolStack newTool = ToolStack.from(newStack);
+        ToolStack oldTool = ToolStackCache.from(oldStack);
+        ToolStack newTool = ToolStackCache.from(newStack);
 
         // check if modifiers or materials changed
         if (!oldTool.getMaterials().equals(newTool.getMaterials())) {
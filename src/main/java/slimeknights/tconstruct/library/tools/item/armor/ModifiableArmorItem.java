@@ -48,6 +48,7 @@ import slimeknights.tconstruct.library.tools.item.IModifiableDisplay;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.library.tools.nbt.StatsNBT;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+import slimeknights.tconstruct.library.tools.nbt.ToolStackCache;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 import slimeknights.tconstruct.library.utils.Util;
 import slimeknights.tconstruct.tools.item.ArmorSlotType;
@@ -110,7 +111,7 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
 
     @Override
     public boolean canPerformAction(ItemStack stack, ToolAction toolAction) {
-        return ModifierUtil.canPerformAction(ToolStack.from(stack), toolAction);
+        return ModifierUtil.canPerformAction(ToolStackCache.from(stack), toolAction);
     }
 
     @Override
@@ -228,7 +229,7 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
         if (!this.isDamageable()) {
             return 0;
         }
-        ToolStack tool = ToolStack.from(stack);
+        ToolStack tool = ToolStackCache.from(stack);
         int durability = tool.getStats().getInt(ToolStats.DURABILITY);
         // vanilla deletes tools if max damage == getDamage, so tell vanilla our max is one higher when broken
         return tool.isBroken() ? durability + 1 : durability;
@@ -239,13 +240,13 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
         if (!this.isDamageable()) {
             return 0;
         }
-        return ToolStack.from(stack).getDamage();
+        return ToolStackCache.from(stack).getDamage();
     }
 
     @Override
     public void setDamage(ItemStack stack, int damage) {
         if (this.isDamageable()) {
-            ToolStack.from(stack).setDamage(damage);
+            ToolStackCache.from(stack).setDamage(damage);
         }
     }
 
@@ -253,7 +254,7 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
     public <T extends LivingEntity> int damageItem(ItemStack stack, int amount, T damager, Consumer<T> onBroken) {
         // We basically emulate Itemstack.damageItem here. We always return 0 to skip the handling in ItemStack.
         // If we don't tools ignore our damage logic
-        if (this.isDamageable() && ToolDamageUtil.damage(ToolStack.from(stack), amount, damager, stack)) {
+        if (this.isDamageable() && ToolDamageUtil.damage(ToolStackCache.from(stack), amount, damager, stack)) {
             onBroken.accept(damager);
         }
 
@@ -320,7 +321,7 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
         if (slot != getSlot() || nbt == null) {
             return ImmutableMultimap.of();
         }
-        return this.getAttributeModifiers(ToolStack.from(stack), slot);
+        return this.getAttributeModifiers(ToolStackCache.from(stack), slot);
     }
 
 
@@ -334,7 +335,7 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
     @Override
     public boolean elytraFlightTick(ItemStack stack, LivingEntity entity, int flightTicks) {
         if (slot == EquipmentSlot.CHEST) {
-            ToolStack tool = ToolStack.from(stack);
+            ToolStack tool = ToolStackCache.from(stack);
             if (!tool.isBroken()) {
                 // if any modifier says stop flying, stop flying
                 for (ModifierEntry entry : tool.getModifierList()) {
@@ -361,7 +362,7 @@ public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay
 
         // don't care about non-living, they skip most tool context
         if (entityIn instanceof LivingEntity) {
-            ToolStack tool = ToolStack.from(stack);
+            ToolStack tool = ToolStackCache.from(stack);
             if (!levelIn.isClient) {
                 tool.ensureHasData();
             }
@@ -13,7 +13,6 @@ import com.google.gson.JsonSerializer;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 import net.minecraft.recipe.Ingredient;
-import net.minecraft.resource.JsonDataLoader;
 import net.minecraft.resource.ResourceManager;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.JsonHelper;
@@ -21,6 +20,7 @@ import net.minecraft.util.profiler.Profiler;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.event.AddReloadListenerEvent;
 import net.minecraftforge.event.OnDatapackSyncEvent;
+import slimeknights.mantle.data.listener.ParallelJsonDataLoader;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.recipe.partbuilder.Pattern;
 
@@ -39,7 +39,7 @@ import java.util.stream.Collectors;
  * Loader for tinker station slot layouts, loaded serverside as that makes it eaiser to modify with recipes and the filters are needed both sides
  */
 @Log4j2
-public class StationSlotLayoutLoader extends JsonDataLoader {
+public class StationSlotLayoutLoader extends ParallelJsonDataLoader {
     public static final String FOLDER = "tinkering/station_layouts";
     public static final Gson GSON = (new GsonBuilder())
             .registerTypeHierarchyAdapter(Ingredient.class, new IngredientSerializer())
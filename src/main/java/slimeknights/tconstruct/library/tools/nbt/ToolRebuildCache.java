@@ -0,0 +1,92 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.item.Item;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.tools.definition.ToolDefinition;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Memoized results of {@link ToolStack#rebuildStats()}, allowing identical tools to skip running the trait, volatile data, and stat hooks.
+ * Results depend on datapack contents, so the cache is cleared on reload.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ToolRebuildCache {
+    private static final Cache<Key, Result> CACHE = CacheBuilder
+            .newBuilder()
+            .maximumSize(256)
+            .build();
+
+    static {
+        RecipeCacheInvalidator.addReloadListener(client -> CACHE.invalidateAll());
+    }
+
+    /**
+     * Creates a key for the given tool inputs. NBT is copied as the tool may modify its tags in place later
+     *
+     * @param item           Tool item
+     * @param definition     Tool definition
+     * @param nbt            Tool NBT containing materials and upgrades
+     * @param persistentData Persistent modifier data
+     * @return Cache key
+     */
+    static Key key(Item item, ToolDefinition definition, NbtCompound nbt, ModDataNBT persistentData) {
+        // upgrades are keyed by NBT as modifier entry equality ignores incremental amounts
+        return new Key(item, definition, copy(nbt.get(ToolStack.TAG_MATERIALS)), copy(nbt.get(ToolStack.TAG_UPGRADES)), persistentData.getData().copy());
+    }
+
+    /**
+     * Copies the given NBT if non-null
+     */
+    @Nullable
+    private static NbtElement copy(@Nullable NbtElement element) {
+        return element == null ? null : element.copy();
+    }
+
+    /**
+     * Gets the cached result for the given key
+     *
+     * @param key Key
+     * @return Result, or null if not cached
+     */
+    @Nullable
+    static Result get(Key key) {
+        return CACHE.getIfPresent(key);
+    }
+
+    /**
+     * Caches a rebuild result
+     *
+     * @param key          Key
+     * @param modifiers    Final modifier list including traits
+     * @param volatileData Volatile data, will be copied
+     * @param stats        Final stats
+     * @param multipliers  Final multipliers
+     */
+    static void put(Key key, ModifierNBT modifiers, ModDataNBT volatileData, StatsNBT stats, MultiplierNBT multipliers) {
+        CACHE.put(key, new Result(modifiers, volatileData.getData().copy(), stats, multipliers));
+    }
+
+    /**
+     * All inputs to the rebuild, besides datapack contents
+     */
+    record Key(Item item, ToolDefinition definition, @Nullable NbtElement materials, @Nullable NbtElement upgrades, NbtCompound persistentData) {}
+
+    /**
+     * Outputs of the rebuild, excluding raw data which must be recomputed each time as it modifies the tool directly
+     */
+    record Result(ModifierNBT modifiers, NbtCompound volatileData, StatsNBT stats, MultiplierNBT multipliers) {
+        /**
+         * Gets a copy of the volatile data, as mod data is mutable
+         */
+        ModDataNBT copyVolatileData() {
+            return ModDataNBT.readFromNBT(volatileData.copy());
+        }
+    }
+}
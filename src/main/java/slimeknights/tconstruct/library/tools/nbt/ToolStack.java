@@ -272,6 +272,14 @@ public class ToolStack implements IToolStackView {
         this.persistentModData = null;
     }
 
+    /**
+     * Clears just the cached damage and broken state, used by {@link ToolStackCache} as those tags may be changed directly by vanilla
+     */
+    void clearDurabilityCache() {
+        this.damage = -1;
+        this.broken = null;
+    }
+
     /**
      * Creates an item stack from this tool stack
      */
@@ -694,9 +702,39 @@ public class ToolStack implements IToolStackView {
     }
 
     /**
-     * Recalculates any relevant cached data. Called after either the materials or modifiers list changes
+     * Recalculates any relevant cached data. Called after either the materials or modifiers list changes.
+     * If another tool with the same inputs was recently rebuilt, its results are reused and only the raw data hook runs.
      */
     public void rebuildStats() {
+        ModDataNBT persistentData = getPersistentData();
+        ToolRebuildCache.Key key = ToolRebuildCache.key(item, definition, nbt, persistentData);
+        ToolRebuildCache.Result cached = ToolRebuildCache.get(key);
+        List<ModifierEntry> modifierList;
+        if (cached != null) {
+            setModifiers(cached.modifiers());
+            setVolatileModData(cached.copyVolatileData());
+            setStats(cached.stats());
+            setMultipliers(cached.multipliers());
+            modifierList = cached.modifiers().getModifiers();
+        } else {
+            modifierList = rebuildModifiersAndStats(persistentData);
+            ToolRebuildCache.put(key, getModifiers(), volatileModData instanceof ModDataNBT modData ? modData : new ModDataNBT(), getStats(), getMultipliers());
+        }
+
+        // finally, update raw data, called last to make the parameters more convenient mostly, plus no other hooks should be responding to this data
+        // raw data modifies the tool directly, so it is never cached
+        for (ModifierEntry entry : modifierList) {
+            entry.getHook(ModifierHooks.RAW_DATA).addRawData(this, entry, getRestrictedNBT());
+        }
+    }
+
+    /**
+     * Runs the trait, volatile data, and stat stages of {@link #rebuildStats()}
+     *
+     * @param persistentData Persistent data for the tool
+     * @return Final list of modifiers on the tool
+     */
+    private List<ModifierEntry> rebuildModifiersAndStats(ModDataNBT persistentData) {
         // add tool slots to volatile data, ensures it is there even from an empty tool, and properly updates on datapack update
         ToolDefinitionData toolData = getDefinitionData();
 
@@ -710,7 +748,7 @@ public class ToolStack implements IToolStackView {
 
         // temporary context while we add modifier traits, will recreate if we have modifiers
         // clear out volatile data, mostly affects the volatile data hook
-        ToolRebuildContext context = new ToolRebuildContext(item, definition, materials, getUpgrades(), beforeTraits, getPersistentData());
+        ToolRebuildContext context = new ToolRebuildContext(item, definition, materials, getUpgrades(), beforeTraits, persistentData);
 
         // if we have modifiers, apply modifier traits, saves creating some builders if empty
         List<ModifierEntry> modifierList = Collections.emptyList();
@@ -746,11 +784,7 @@ public class ToolStack implements IToolStackView {
         }
         setStats(statBuilder.build(item));
         setMultipliers(statBuilder.buildMultipliers(item));
-
-        // finally, update raw data, called last to make the parameters more convenient mostly, plus no other hooks should be responding to this data
-        for (ModifierEntry entry : modifierList) {
-            entry.getHook(ModifierHooks.RAW_DATA).addRawData(this, entry, getRestrictedNBT());
-        }
+        return modifierList;
     }
 
 
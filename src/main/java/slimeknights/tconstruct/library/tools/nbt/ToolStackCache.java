@@ -0,0 +1,109 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of parsed tool stacks keyed on the identity of the stack's NBT. Saves reparsing materials, modifiers, and stats on every item callback.
+ * Cached tools are revalidated on each fetch against the NBT elements they were parsed from, so changes made to the NBT outside the tool stack are still seen.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ToolStackCache {
+    /**
+     * Tags parsed into immutable or shared objects in the tool stack, if any of these elements are replaced the tool is reparsed
+     */
+    private static final String[] STAMPED_TAGS = {
+            ToolStack.TAG_MATERIALS, ToolStack.TAG_UPGRADES, ToolStack.TAG_MODIFIERS, ToolStack.TAG_STATS,
+            ToolStack.TAG_MULTIPLIERS, ToolStack.TAG_PERSISTENT_MOD_DATA, ToolStack.TAG_VOLATILE_MOD_DATA
+    };
+    /**
+     * Weak keys compare by identity, which is exactly what we want for NBT. Entries hold the NBT strongly through the tool, so the size and access limits are what keeps this bounded
+     */
+    private static final Cache<NbtCompound, CachedTool> CACHE = CacheBuilder
+            .newBuilder()
+            .weakKeys()
+            .maximumSize(1024)
+            .expireAfterAccess(1, TimeUnit.MINUTES)
+            .build();
+
+    static {
+        // parsed modifiers and stats may reference datapack contents
+        RecipeCacheInvalidator.addReloadListener(client -> CACHE.invalidateAll());
+    }
+
+    /**
+     * Gets a tool stack for the given item stack, reusing the parsed tool from a previous call if the stack NBT has not been replaced.
+     * Like {@link ToolStack#from(ItemStack)}, changes to the returned tool write through to the stack.
+     *
+     * @param stack Stack
+     * @return Tool stack
+     */
+    public static ToolStack from(ItemStack stack) {
+        NbtCompound nbt = stack.getNbt();
+        // no NBT means the tool stack is about to create it, nothing to cache against
+        if (nbt == null) {
+            return ToolStack.from(stack);
+        }
+        CachedTool cached = CACHE.getIfPresent(nbt);
+        // NBT may be shared between items from ToolStack#createStack
+        if (cached == null || cached.tool.getItem() != stack.getItem()) {
+            cached = new CachedTool(ToolStack.from(stack), nbt);
+            CACHE.put(nbt, cached);
+        } else {
+            cached.revalidate(nbt);
+        }
+        return cached.tool;
+    }
+
+    /**
+     * Clears all cached tools
+     */
+    public static void clear() {
+        CACHE.invalidateAll();
+    }
+
+    /**
+     * Tool stack along with the NBT elements it was parsed from
+     */
+    private static class CachedTool {
+        private final ToolStack tool;
+        private final NbtElement[] stamps = new NbtElement[STAMPED_TAGS.length];
+
+        private CachedTool(ToolStack tool, NbtCompound nbt) {
+            this.tool = tool;
+            stamp(nbt);
+        }
+
+        /**
+         * Records the current elements for each stamped tag
+         */
+        private void stamp(NbtCompound nbt) {
+            for (int i = 0; i < STAMPED_TAGS.length; i++) {
+                stamps[i] = nbt.get(STAMPED_TAGS[i]);
+            }
+        }
+
+        /**
+         * Ensures the cached tool matches the current NBT, clearing parsed data if any stamped tag was replaced
+         */
+        private void revalidate(NbtCompound nbt) {
+            for (int i = 0; i < STAMPED_TAGS.length; i++) {
+                if (nbt.get(STAMPED_TAGS[i]) != stamps[i]) {
+                    tool.clearCache();
+                    stamp(nbt);
+                    return;
+                }
+            }
+            // damage is a primitive that vanilla may set directly, cheaper to reread than to stamp
+            tool.clearDurabilityCache();
+        }
+    }
+}
@@ -16,18 +16,20 @@ import net.minecraft.text.ClickEvent;
 import net.minecraft.text.ClickEvent.Action;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
-import org.apache.commons.lang3.mutable.MutableInt;
 import slimeknights.mantle.util.JsonHelper;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.client.data.material.AbstractMaterialSpriteProvider.MaterialSpriteInfo;
 import slimeknights.tconstruct.library.client.data.material.AbstractPartSpriteProvider.PartSpriteInfo;
 import slimeknights.tconstruct.library.client.data.material.GeneratorPartTextureJsonGenerator.StatOverride;
 import slimeknights.tconstruct.library.client.data.material.MaterialPartTextureGenerator;
+import slimeknights.tconstruct.library.client.data.material.MaterialPartTextureGenerator.SpriteRequest;
 import slimeknights.tconstruct.library.client.data.util.AbstractSpriteReader;
+import slimeknights.tconstruct.library.client.data.util.GeneratedSpriteCache;
 import slimeknights.tconstruct.library.client.data.util.ResourceManagerSpriteReader;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfoJson;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfoJson.MaterialGeneratorJson;
 import slimeknights.tconstruct.library.client.materials.MaterialRenderInfoLoader;
+import slimeknights.tconstruct.library.client.materials.MaterialSpriteAtlas;
 import slimeknights.tconstruct.library.client.model.DynamicTextureLoader;
 import slimeknights.tconstruct.library.materials.definition.MaterialVariantId;
 import slimeknights.tconstruct.library.materials.stats.MaterialStatsId;
@@ -41,6 +43,7 @@ import java.io.Reader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -63,6 +66,10 @@ public class ClientGeneratePartTexturesCommand {
      * Part file to load, pulls from all namespaces, but no merging
      */
     private static final String GENERATOR_PART_TEXTURES = "tinkering/generator_part_textures.json";
+    /**
+     * File in the output pack storing the inputs of each generated sprite
+     */
+    private static final String HASH_CACHE = "generated_sprite_hashes.json";
 
     /**
      * Gets the clickable output link
@@ -114,38 +121,36 @@ public class ClientGeneratePartTexturesCommand {
 
         // predicate for whether we should generate the texture
         AbstractSpriteReader spriteReader = new ResourceManagerSpriteReader(manager, MaterialPartTextureGenerator.FOLDER);
-        MutableInt generated = new MutableInt(0); // keep track of how many generated
         Predicate<Identifier> shouldGenerate;
         if (operation == Operation.ALL) {
-            shouldGenerate = exists -> {
-                generated.add(1);
-                return true;
-            };
+            shouldGenerate = exists -> true;
         } else {
-            shouldGenerate = loc -> {
-                if (!spriteReader.exists(loc)) {
-                    generated.add(1);
-                    return true;
-                }
-                return false;
-            };
+            shouldGenerate = loc -> !spriteReader.exists(loc);
         }
+        // skip sprites generated from the same inputs last time, so rerunning after adding a material only generates the new one
+        // generating all is used to force regeneration, so it skips nothing
+        GeneratedSpriteCache cache = operation == Operation.ALL ? null : new GeneratedSpriteCache(MaterialRenderInfoLoader.GSON, path.resolve(HASH_CACHE), loc -> Files.exists(getImagePath(path, loc)));
 
         // at this point in time we have all our materials, time to generate our sprites
+        List<SpriteRequest> requests = new ArrayList<>();
         for (MaterialSpriteInfo material : materialSprites) {
             for (PartSpriteInfo part : generatorConfig.sprites) {
                 if (material.supportStatType(part.getStatType()) || generatorConfig.statOverrides.hasOverride(part.getStatType(), material.getTexture())) {
-                    MaterialPartTextureGenerator.generateSprite(spriteReader, material, part, shouldGenerate, saver, metaSaver);
+                    requests.add(new SpriteRequest(material, part));
                 }
             }
         }
+        int count = MaterialPartTextureGenerator.generateSprites(spriteReader, requests, shouldGenerate, cache, saver, metaSaver);
+        if (cache != null) {
+            cache.save();
+        }
         spriteReader.closeAll();
         DynamicTextureLoader.clearCache();
 
         // success message
         long deltaTime = System.nanoTime() - time;
-        int count = generated.getValue();
         MaterialPartTextureGenerator.runCallbacks(null, null);
+        MaterialSpriteAtlas.INSTANCE.resetGenerators();
         log.info("Finished generating {} textures in {} ms", count, deltaTime / 1000000f);
         if (MinecraftClient.getInstance().player != null) {
             MinecraftClient.getInstance().player.sendMessage(Text.translatable(SUCCESS_KEY, count, (deltaTime / 1000000) / 1000f, getOutputComponent(path.toFile())), false);
@@ -174,12 +179,19 @@ public class ClientGeneratePartTexturesCommand {
         }
     }
 
+    /**
+     * Gets the path to an image in the output folder
+     */
+    private static Path getImagePath(Path folder, Identifier location) {
+        return folder.resolve(Paths.get(ResourceType.CLIENT_RESOURCES.getDirectory(),
+                location.getNamespace(), MaterialPartTextureGenerator.FOLDER, location.getPath() + ".png"));
+    }
+
     /**
      * Saves an image to the output folder
      */
     private static void saveImage(Path folder, Identifier location, NativeImage image) {
-        Path path = folder.resolve(Paths.get(ResourceType.CLIENT_RESOURCES.getDirectory(),
-                location.getNamespace(), MaterialPartTextureGenerator.FOLDER, location.getPath() + ".png"));
+        Path path = getImagePath(folder, location);
         try {
             Files.createDirectories(path.getParent());
             image.writeTo(path);
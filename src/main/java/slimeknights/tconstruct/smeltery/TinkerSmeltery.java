@@ -83,6 +83,7 @@ import slimeknights.tconstruct.smeltery.block.controller.MelterBlock;
 import slimeknights.tconstruct.smeltery.block.controller.SmelteryControllerBlock;
 import slimeknights.tconstruct.smeltery.block.entity.CastingBlockEntity;
 import slimeknights.tconstruct.smeltery.block.entity.ChannelBlockEntity;
+import slimeknights.tconstruct.smeltery.block.entity.ChannelFlowSync;
 import slimeknights.tconstruct.smeltery.block.entity.FaucetBlockEntity;
 import slimeknights.tconstruct.smeltery.block.entity.HeaterBlockEntity;
 import slimeknights.tconstruct.smeltery.block.entity.LanternBlockEntity;
@@ -395,6 +396,7 @@ public final class TinkerSmeltery extends TinkerModule {
 
     @SubscribeEvent
     void commonSetup(FMLCommonSetupEvent event) {
+        ChannelFlowSync.init();
         event.enqueueWork(() -> {
             Consumer<Block> dispenserBehavior = block -> DispenserBlock.registerBehavior(block.asItem(), PlaceBlockDispenserBehavior.INSTANCE);
             searedTank.forEach(dispenserBehavior);
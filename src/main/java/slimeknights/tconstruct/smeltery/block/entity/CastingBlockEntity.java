@@ -7,6 +7,7 @@ import net.minecraft.block.entity.BlockEntityTicker;
 import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
+import net.minecraft.fluid.Fluid;
 import net.minecraft.inventory.SidedInventory;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
@@ -45,6 +46,7 @@ import slimeknights.tconstruct.common.Sounds;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+import slimeknights.tconstruct.library.recipe.casting.CastingRecipeLookup;
 import slimeknights.tconstruct.library.recipe.casting.ICastingRecipe;
 import slimeknights.tconstruct.library.recipe.molding.MoldingRecipe;
 import slimeknights.tconstruct.shared.block.entity.TableBlockEntity;
@@ -59,8 +61,6 @@ import javax.annotation.Nonnull;
 
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Optional;
-
 public abstract class CastingBlockEntity extends TableBlockEntity implements SidedInventory, FluidUpdatePacket.IFluidPacketReceiver {
     // slots
     public static final int INPUT = 0;
@@ -119,6 +119,10 @@ public abstract class CastingBlockEntity extends TableBlockEntity implements Sid
      * Cache recipe to reduce time during recipe lookups. Not saved to Tag
      */
     private ICastingRecipe lastCastingRecipe;
+    /**
+     * Last cast and fluid pair that had no casting recipe, skips searching again when the same pair is offered. Not saved to Tag
+     */
+    private final CastingRecipeLookup.MissCache castingMiss = new CastingRecipeLookup.MissCache();
     /**
      * Last recipe output for client side display
      */
@@ -441,9 +445,16 @@ public abstract class CastingBlockEntity extends TableBlockEntity implements Sid
         if (this.lastCastingRecipe != null && this.lastCastingRecipe.matches(castingInventory, world)) {
             return this.lastCastingRecipe;
         }
-        ICastingRecipe castingRecipe = world.getRecipeManager().getFirstMatch(this.castingType, castingInventory, world).orElse(null);
+        ItemStack cast = castingInventory.getStack();
+        Fluid fluid = castingInventory.getFluid();
+        if (castingMiss.isMiss(cast, fluid)) {
+            return null;
+        }
+        ICastingRecipe castingRecipe = CastingRecipeLookup.findCastingRecipe(world, this.castingType, castingInventory);
         if (castingRecipe != null) {
             this.lastCastingRecipe = castingRecipe;
+        } else {
+            castingMiss.setMiss(cast, fluid);
         }
         return castingRecipe;
     }
@@ -460,12 +471,11 @@ public abstract class CastingBlockEntity extends TableBlockEntity implements Sid
         if (lastMoldingRecipe != null && lastMoldingRecipe.matches(moldingInventory, world)) {
             return lastMoldingRecipe;
         }
-        Optional<MoldingRecipe> newRecipe = world.getRecipeManager().getFirstMatch(moldingType, moldingInventory, world);
-        if (newRecipe.isPresent()) {
-            lastMoldingRecipe = newRecipe.get();
-            return lastMoldingRecipe;
+        MoldingRecipe newRecipe = CastingRecipeLookup.findMoldingRecipe(world, moldingType, moldingInventory);
+        if (newRecipe != null) {
+            lastMoldingRecipe = newRecipe;
         }
-        return null;
+        return newRecipe;
     }
 
 
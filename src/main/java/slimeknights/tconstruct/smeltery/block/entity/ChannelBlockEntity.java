@@ -28,7 +28,6 @@ import slimeknights.tconstruct.smeltery.block.ChannelBlock;
 import slimeknights.tconstruct.smeltery.block.ChannelBlock.ChannelConnection;
 import slimeknights.tconstruct.smeltery.block.entity.tank.ChannelSideTank;
 import slimeknights.tconstruct.smeltery.block.entity.tank.ChannelTank;
-import slimeknights.tconstruct.smeltery.network.ChannelFlowPacket;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket.IFluidPacketReceiver;
 
@@ -78,12 +77,21 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
     /**
      * Ticker instance for this TE, serverside only
      */
-    public static final BlockEntityTicker<ChannelBlockEntity> SERVER_TICKER = (level, pos, state, self) -> self.tick(state);
+    public static final BlockEntityTicker<ChannelBlockEntity> SERVER_TICKER = (level, pos, state, self) -> self.tick();
 
     /**
      * Stores if the channel is currently flowing, set to 2 to allow a small buffer
      */
     private final byte[] isFlowing = new byte[5];
+    /**
+     * If true, this channel is queued in {@link ChannelFlowSync} to send its flow state at the end of the tick
+     */
+    boolean flowSyncQueued = false;
+    /**
+     * Network of adjacent channels this channel ticks with, null if not yet built. Serverside only
+     */
+    @Nullable
+    ChannelNetwork network;
 
     public ChannelBlockEntity(BlockPos pos, BlockState state) {
         this(TinkerSmeltery.channel.get(), pos, state);
@@ -217,6 +225,15 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
         }
     }
 
+    @Override
+    public void markRemoved() {
+        super.markRemoved();
+        if (network != null) {
+            network.invalidate();
+            network = null;
+        }
+    }
+
     @Override
     public void invalidateCaps() {
         super.invalidateCaps();
@@ -266,7 +283,33 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 
         // send packet to client if it changed
         if (wasFlowing != flowing && world != null && !world.isClient) {
-            syncFlowToClient(side, flowing);
+            syncFlowToClient();
+        }
+    }
+
+    /**
+     * Gets the flowing state of all sides as a bitmask, indexed by flow index
+     *
+     * @return Flow bitmask
+     */
+    public byte getFlowMask() {
+        byte mask = 0;
+        for (int i = 0; i < 5; i++) {
+            if (isFlowing[i] > 0) {
+                mask |= (byte) (1 << i);
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Sets the flowing state of all sides from a bitmask, used by the client packet
+     *
+     * @param mask Flow bitmask from {@link #getFlowMask()}
+     */
+    public void setFlowMask(byte mask) {
+        for (int i = 0; i < 5; i++) {
+            isFlowing[i] = (byte) ((mask & (1 << i)) != 0 ? 2 : 0);
         }
     }
 
@@ -322,22 +365,38 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
     }
 
     /**
-     * Syncs the given flowing state to the client side
-     *
-     * @param side    Side to sync
-     * @param flowing Flowing state to sync
+     * Queues the flowing state to sync to the client side at the end of the tick
      */
-    private void syncFlowToClient(Direction side, boolean flowing) {
-        TinkerNetwork.getInstance().sendToClientsAround(new ChannelFlowPacket(pos, side, flowing), world, pos);
+    private void syncFlowToClient() {
+        if (!flowSyncQueued) {
+            flowSyncQueued = true;
+            ChannelFlowSync.queue(this);
+        }
     }
 
 
     /* Flow */
 
     /**
-     * Server ticking logic
+     * Server ticking logic, runs the flow for the whole channel network
+     */
+    private void tick() {
+        if (world == null) {
+            return;
+        }
+        ChannelNetwork current = network;
+        if (current == null || !current.isValid()) {
+            current = ChannelNetwork.build(this);
+        }
+        current.tick(world);
+    }
+
+    /**
+     * Transfers fluid out of this channel, called by {@link ChannelNetwork} for each member once per tick
+     *
+     * @param state Current block state
      */
-    private void tick(BlockState state) {
+    void transfer(BlockState state) {
         // must have fluid first
         FluidStack fluid = tank.getFluid();
         if (!fluid.isEmpty()) {
@@ -363,17 +422,16 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
             if (isFlowing[i] > 0) {
                 isFlowing[i]--;
                 if (isFlowing[i] == 0) {
-                    Direction direction;
-                    if (i == 0) {
-                        direction = Direction.DOWN;
-                    } else {
-                        direction = Direction.byId(i + 1);
-                    }
-                    syncFlowToClient(direction, false);
+                    syncFlowToClient();
                 }
             }
         }
+    }
 
+    /**
+     * Allows fluid received this tick to flow out next tick, called after all members of the network transferred
+     */
+    void freeFluid() {
         tank.freeFluid();
     }
 
@@ -407,13 +465,12 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
         // make sure we do not allow more than the fluid allows, should not happen but just in case
         int usable = Math.min(tank.getMaxUsable(), amount);
         if (usable > 0) {
-            // see how much works
+            // the tank holds a single fluid and usable is within its amount, so fill directly and drain whatever was accepted
+            // saves a simulate round trip through the neighbor on every side every tick
             FluidStack fluid = tank.drain(usable, FluidAction.SIMULATE);
-            int filled = handler.fill(fluid, FluidAction.SIMULATE);
+            int filled = handler.fill(fluid, FluidAction.EXECUTE);
             if (filled > 0) {
-                // drain the amount that worked
-                fluid = tank.drain(filled, FluidAction.EXECUTE);
-                handler.fill(fluid, FluidAction.EXECUTE);
+                tank.drain(filled, FluidAction.EXECUTE);
 
                 // mark that the side is flowing
                 setFlow(side, true);
@@ -0,0 +1,94 @@
+package slimeknights.tconstruct.smeltery.block.entity;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent.LevelTickEvent;
+import net.minecraftforge.event.TickEvent.Phase;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.smeltery.network.ChannelFlowPacket;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Collects channel flow changes during a tick and sends them as a single {@link ChannelFlowPacket} per {@link ChannelNetwork} at the end of the tick.
+ * Long channel lines change flow on many channels at once, so this avoids a packet for every side of every channel.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChannelFlowSync {
+    /**
+     * Channels with changed flow in each world, grouped by network. Channels not yet in a network are grouped on their own
+     */
+    private static final Map<World, Map<Object, List<ChannelBlockEntity>>> QUEUED = new WeakHashMap<>();
+
+    /**
+     * Registers event handlers
+     */
+    public static void init() {
+        MinecraftForge.EVENT_BUS.addListener(ChannelFlowSync::onLevelTick);
+    }
+
+    /**
+     * Queues the given channel to sync its flow at the end of the tick
+     *
+     * @param channel Channel to sync
+     */
+    static void queue(ChannelBlockEntity channel) {
+        World world = channel.getWorld();
+        if (world != null && !world.isClient) {
+            Object key = channel.network != null ? channel.network : channel;
+            QUEUED.computeIfAbsent(world, w -> new IdentityHashMap<>())
+                  .computeIfAbsent(key, k -> new ArrayList<>())
+                  .add(channel);
+        }
+    }
+
+    /**
+     * Sends all queued flow changes for the world
+     */
+    private static void onLevelTick(LevelTickEvent event) {
+        if (event.phase == Phase.END && event.level instanceof ServerWorld world) {
+            Map<Object, List<ChannelBlockEntity>> queued = QUEUED.remove(world);
+            if (queued != null) {
+                TinkerNetwork network = TinkerNetwork.getInstance();
+                for (List<ChannelBlockEntity> channels : queued.values()) {
+                    List<BlockPos> positions = new ArrayList<>(channels.size());
+                    byte[] flows = new byte[channels.size()];
+                    LongSet chunks = new LongOpenHashSet();
+                    for (ChannelBlockEntity channel : channels) {
+                        channel.flowSyncQueued = false;
+                        if (!channel.isRemoved()) {
+                            flows[positions.size()] = channel.getFlowMask();
+                            positions.add(channel.getPos());
+                            chunks.add(ChunkPos.toLong(channel.getPos()));
+                        }
+                    }
+                    if (!positions.isEmpty()) {
+                        // a network may span several chunks, send to everyone tracking any of them once
+                        Set<ServerPlayerEntity> players = new LinkedHashSet<>();
+                        for (long chunk : chunks) {
+                            players.addAll(world.getChunkManager().threadedAnvilChunkStorage.getPlayersWatchingChunk(new ChunkPos(chunk), false));
+                        }
+                        ChannelFlowPacket packet = new ChannelFlowPacket(positions, flows);
+                        for (ServerPlayerEntity player : players) {
+                            network.sendTo(packet, player);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
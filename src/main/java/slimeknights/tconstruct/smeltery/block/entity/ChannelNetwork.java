@@ -0,0 +1,125 @@
+package slimeknights.tconstruct.smeltery.block.entity;
+
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Group of adjacent channels whose flow is solved together once per tick, rather than each channel ticking on its own.
+ * The first member to tick in a game tick runs the transfer for every member, then frees the fluid received by all members at once, so fluid moves exactly one channel per tick regardless of tick order.
+ * <p>
+ * Networks are built lazily by the first member to tick without a valid network, and are invalidated when a member is removed. A channel placed next to an existing network absorbs it when it builds its own.
+ */
+public class ChannelNetwork {
+    /**
+     * Channels in the network
+     */
+    private final List<ChannelBlockEntity> members;
+    /**
+     * If false, a member was removed and the network must be rebuilt
+     */
+    private boolean valid = true;
+    /**
+     * Game time of the last tick of this network
+     */
+    private long lastTick;
+
+    private ChannelNetwork(List<ChannelBlockEntity> members, long lastTick) {
+        this.members = members;
+        this.lastTick = lastTick;
+    }
+
+    /**
+     * Builds the network containing the given channel, assigning it to all reachable channels
+     *
+     * @param start Channel to start from
+     * @return Network instance
+     */
+    static ChannelNetwork build(ChannelBlockEntity start) {
+        World world = start.getWorld();
+        assert world != null;
+        List<ChannelBlockEntity> members = new ArrayList<>();
+        Set<ChannelBlockEntity> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<ChannelBlockEntity> queue = new ArrayDeque<>();
+        visited.add(start);
+        queue.add(start);
+        // networks absorbed into this one may have already ticked this game tick, if so wait until next tick
+        long lastTick = -1;
+        BlockPos.Mutable mutable = new BlockPos.Mutable();
+        while (!queue.isEmpty()) {
+            ChannelBlockEntity channel = queue.poll();
+            members.add(channel);
+            ChannelNetwork old = channel.network;
+            if (old != null) {
+                lastTick = Math.max(lastTick, old.lastTick);
+                old.valid = false;
+            }
+            BlockPos pos = channel.getPos();
+            for (Direction side : Direction.values()) {
+                mutable.set(pos, side);
+                // never load chunks to find members, the network is rebuilt when channels in the neighboring chunk start ticking
+                if (world.isChunkLoaded(mutable)) {
+                    BlockEntity be = world.getBlockEntity(mutable);
+                    if (be instanceof ChannelBlockEntity neighbor && !neighbor.isRemoved() && visited.add(neighbor)) {
+                        queue.add(neighbor);
+                    }
+                }
+            }
+        }
+        ChannelNetwork network = new ChannelNetwork(members, lastTick);
+        for (ChannelBlockEntity member : members) {
+            member.network = network;
+        }
+        return network;
+    }
+
+    /**
+     * Checks if the network is still usable
+     */
+    boolean isValid() {
+        return valid;
+    }
+
+    /**
+     * Marks the network as needing a rebuild
+     */
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Runs the flow for all members, does nothing if the network already ticked this game tick
+     *
+     * @param world World containing the network
+     */
+    void tick(World world) {
+        long time = world.getTime();
+        if (time == lastTick) {
+            return;
+        }
+        lastTick = time;
+        // members in chunks that are not ticking keep their fluid, same as if they ticked on their own
+        List<ChannelBlockEntity> ticking = new ArrayList<>(members.size());
+        for (ChannelBlockEntity member : members) {
+            if (!member.isRemoved() && world.shouldTickBlockPos(member.getPos())) {
+                ticking.add(member);
+            }
+        }
+        for (ChannelBlockEntity member : ticking) {
+            member.transfer(member.getCachedState());
+        }
+        // fluid received this tick is only freed once every member has transferred, so it cannot pass through multiple channels in one tick
+        for (ChannelBlockEntity member : ticking) {
+            member.freeFluid();
+        }
+    }
+}
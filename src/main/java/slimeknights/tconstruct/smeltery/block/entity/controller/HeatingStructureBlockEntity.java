@@ -46,6 +46,7 @@ import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModuleInvento
 import slimeknights.tconstruct.smeltery.block.entity.multiblock.HeatingStructureMultiblock;
 import slimeknights.tconstruct.smeltery.block.entity.multiblock.HeatingStructureMultiblock.StructureData;
 import slimeknights.tconstruct.smeltery.block.entity.multiblock.MultiblockResult;
+import slimeknights.tconstruct.smeltery.block.entity.multiblock.StructureChangeTracker;
 import slimeknights.tconstruct.smeltery.block.entity.tank.IDisplayFluidListener;
 import slimeknights.tconstruct.smeltery.block.entity.tank.ISmelteryTankHandler;
 import slimeknights.tconstruct.smeltery.block.entity.tank.SmelteryTank;
@@ -65,6 +66,10 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
     private static final String TAG_TANK = "tank";
     private static final String TAG_INVENTORY = "inventory";
     private static final String TAG_ERROR_POS = "lastError";
+    /**
+     * Number of seconds between fallback checks for expansion, as block changes above the structure already trigger an update
+     */
+    private static final int EXPAND_INTERVAL = 60;
 
     /**
      * Ticker instance for the serverside
@@ -144,13 +149,18 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
      */
     protected int tick = 0;
     /**
-     * Updates every second. Once it reaches 10, checks above the smeltery for a layer to see if we can expand up
+     * Updates every second. Once it reaches {@link #EXPAND_INTERVAL}, checks above the smeltery for a layer to see if we can expand up
      */
     private int expandCounter = 0;
     /**
      * If true, structure will check for an update next tick
      */
     private boolean structureUpdateQueued = false;
+    /**
+     * Structure currently registered with {@link StructureChangeTracker} for block change notifications
+     */
+    @Nullable
+    private StructureData trackedStructure;
     /**
      * If true, fluids have changed since the last update and should be synced to the client, synced at most once every 4 ticks
      */
@@ -257,13 +267,23 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
             checkStructure();
             structureUpdateQueued = false;
         }
+        // keep block change notifications in sync with the structure, also handles structures loaded from NBT
+        if (structure != trackedStructure) {
+            if (structure != null) {
+                StructureChangeTracker.track(level, this, structure);
+            } else {
+                StructureChangeTracker.untrack(level, this);
+            }
+            trackedStructure = structure;
+        }
 
         // if we have a structure, run smeltery logic
         if (structure != null && state.get(SmelteryControllerBlock.IN_STRUCTURE)) {
-            // every 15 seconds, check above the smeltery to try to expand
+            // block changes are reported by the servants and the change tracker, so polling is just a slow fallback
+            // every minute, check above the smeltery to try to expand
             if (tick == 0) {
                 expandCounter++;
-                if (expandCounter >= 10 && structure.getInnerY() < multiblock.getMaxHeight()) {
+                if (expandCounter >= EXPAND_INTERVAL && structure.getInnerY() < multiblock.getMaxHeight()) {
                     expandCounter = 0;
                     // instead of rechecking the whole structure, just recheck the layer above and queue an update if its usable
                     if (multiblock.canExpand(structure, level)) {
@@ -272,8 +292,8 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
                         updateErrorPos();
                     }
                 }
-            } else if (tick % 4 == 0) {
-                // check the next inside position to see if its a valid inner block every other tick
+            } else if (tick == 10) {
+                // check the next inside position to see if its a valid inner block once a second
                 if (!multiblock.isInnerBlock(level, structure.getNextInsideCheck())) {
                     updateStructure();
                 }
@@ -408,6 +428,11 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
      * Called when the controller is broken to invalidate the master in all servants
      */
     public void invalidateStructure() {
+        if (trackedStructure != null) {
+            assert world != null;
+            StructureChangeTracker.untrack(world, this);
+            trackedStructure = null;
+        }
         if (structure != null) {
             structure.clearMaster(this);
             structure = null;
@@ -428,6 +453,15 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
         }
     }
 
+    @Override
+    public void markRemoved() {
+        super.markRemoved();
+        if (trackedStructure != null && world != null) {
+            StructureChangeTracker.untrack(world, this);
+            trackedStructure = null;
+        }
+    }
+
     /**
      * Gets the last result from this multiblock
      */
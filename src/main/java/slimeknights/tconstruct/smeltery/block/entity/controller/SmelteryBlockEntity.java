@@ -143,7 +143,7 @@ public class SmelteryBlockEntity extends HeatingStructureBlockEntity {
         // adding a new fluid means recipes that previously did not match might match now
         // can ignore removing a fluid as that is handled internally by the module
         if (type == FluidChange.ADDED) {
-            this.alloyingModule.clearCachedRecipes();
+            this.alloyingModule.addFluid(fluid.getFluid());
         }
     }
 }
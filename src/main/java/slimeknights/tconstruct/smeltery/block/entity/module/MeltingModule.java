@@ -10,13 +10,12 @@ import net.minecraftforge.items.ItemHandlerHelper;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
 import slimeknights.tconstruct.common.network.InventorySlotSyncPacket;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingContainer;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingRecipe;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipeLookup;
 
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Optional;
 import java.util.function.Predicate;
 
 /**
@@ -199,12 +198,11 @@ public class MeltingModule implements IMeltingContainer, PropertyDelegate {
             return last;
         }
         // if that fails, try to find a new recipe
-        Optional<IMeltingRecipe> newRecipe = world.getRecipeManager().getFirstMatch(TinkerRecipeTypes.MELTING.get(), this, world);
-        if (newRecipe.isPresent()) {
-            lastRecipe = newRecipe.get();
-            return lastRecipe;
+        IMeltingRecipe newRecipe = MeltingRecipeLookup.findRecipe(world, this);
+        if (newRecipe != null) {
+            lastRecipe = newRecipe;
         }
-        return null;
+        return newRecipe;
     }
 
     /**
@@ -1,14 +1,17 @@
 package slimeknights.tconstruct.smeltery.block.entity.module.alloying;
 
+import io.github.fabricators_of_create.porting_lib.fluids.FluidStack;
+import net.minecraft.fluid.Fluid;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe;
+import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipeLookup;
 import slimeknights.tconstruct.library.recipe.alloying.IAlloyTank;
 import slimeknights.tconstruct.library.recipe.alloying.IMutableAlloyTank;
 
 import org.jetbrains.annotations.Nullable;
 import net.minecraft.world.World;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -27,6 +30,11 @@ public class MultiAlloyingModule implements IAlloyingModule {
      */
     @Nullable
     private List<AlloyRecipe> lastRecipes;
+    /**
+     * Lookup used to find {@link #lastRecipes}, if the current lookup differs recipes were reloaded
+     */
+    @Nullable
+    private AlloyRecipeLookup lookup;
 
     /**
      * Predicates for common behaviors
@@ -56,12 +64,38 @@ public class MultiAlloyingModule implements IAlloyingModule {
      * @return List of recipes that match the tank
      */
     private List<AlloyRecipe> getRecipes() {
-        if (this.lastRecipes == null) {
-            this.lastRecipes = this.getLevel().getRecipeManager().getAllMatches(TinkerRecipeTypes.ALLOYING.get(), this.alloyTank, this.getLevel());
+        World world = this.getLevel();
+        AlloyRecipeLookup current = AlloyRecipeLookup.get(world.getRecipeManager());
+        if (this.lastRecipes == null || this.lookup != current) {
+            this.lookup = current;
+            // only recipes using a fluid in the tank can possibly match
+            List<AlloyRecipe> recipes = new ArrayList<>();
+            for (int i = 0; i < this.alloyTank.getTanks(); i++) {
+                FluidStack fluid = this.alloyTank.getFluidInTank(i);
+                if (!fluid.isEmpty()) {
+                    this.addMatches(recipes, current.getRecipes(fluid.getFluid()), world);
+                }
+            }
+            this.lastRecipes = recipes;
         }
         return this.lastRecipes;
     }
 
+    /**
+     * Adds all candidates that match the tank to the recipe list
+     *
+     * @param recipes    Recipe list to update
+     * @param candidates Candidate recipes
+     * @param world      World instance
+     */
+    private void addMatches(List<AlloyRecipe> recipes, List<AlloyRecipe> candidates, World world) {
+        for (AlloyRecipe recipe : candidates) {
+            if (!recipes.contains(recipe) && recipe.matches(this.alloyTank, world)) {
+                recipes.add(recipe);
+            }
+        }
+    }
+
     /**
      * Runs all the recipes, removing any that no longer match
      *
@@ -107,9 +141,14 @@ public class MultiAlloyingModule implements IAlloyingModule {
     }
 
     /**
-     * Clears the list of cached recipes, called when the tank gains a new fluid
+     * Updates the cached recipes for a fluid newly added to the tank, only testing recipes that use the fluid
+     *
+     * @param fluid Fluid added
      */
-    public void clearCachedRecipes() {
-        this.lastRecipes = null;
+    public void addFluid(Fluid fluid) {
+        // if not yet cached, the next lookup will find everything
+        if (this.lastRecipes != null && this.lookup != null) {
+            this.addMatches(this.lastRecipes, this.lookup.getRecipes(fluid), this.getLevel());
+        }
     }
 }
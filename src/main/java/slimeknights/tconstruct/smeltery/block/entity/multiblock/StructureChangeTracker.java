@@ -0,0 +1,128 @@
+package slimeknights.tconstruct.smeltery.block.entity.multiblock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+import slimeknights.tconstruct.common.multiblock.IMasterLogic;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Tracks which chunk sections each formed structure covers, so block changes inside a structure notify its master directly.
+ * Lets masters react to changes in the interior, which has no servant blocks to report changes, without polling every block.
+ * Only used serverside, all access is from the server thread.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class StructureChangeTracker {
+    /**
+     * Tracked structures for each world
+     */
+    private static final Map<World, Tracker> TRACKERS = new WeakHashMap<>();
+
+    /**
+     * Starts tracking the given structure, replacing any previously tracked region for the master
+     *
+     * @param world     World instance
+     * @param master    Master to notify of changes
+     * @param structure Structure to track, includes the layer directly above for expansion
+     */
+    public static void track(World world, IMasterLogic master, MultiblockStructureData structure) {
+        Tracker tracker = TRACKERS.computeIfAbsent(world, w -> new Tracker());
+        tracker.remove(master);
+        tracker.add(master, structure.getMinPos(), structure.getMaxPos().up());
+    }
+
+    /**
+     * Stops tracking the given master
+     *
+     * @param world  World instance
+     * @param master Master to remove
+     */
+    public static void untrack(World world, IMasterLogic master) {
+        Tracker tracker = TRACKERS.get(world);
+        if (tracker != null) {
+            tracker.remove(master);
+        }
+    }
+
+    /**
+     * Called when a block changes in the world to notify any structure covering the position
+     *
+     * @param world World instance
+     * @param pos   Position that changed
+     * @param state New block state
+     */
+    public static void onBlockChanged(World world, BlockPos pos, BlockState state) {
+        Tracker tracker = TRACKERS.get(world);
+        if (tracker != null) {
+            List<IMasterLogic> masters = tracker.bySection.get(ChunkSectionPos.toLong(pos));
+            if (masters != null) {
+                for (IMasterLogic master : masters) {
+                    master.notifyChange(pos, state);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tracked masters in a single world
+     */
+    private static class Tracker {
+        /**
+         * Masters covering each section
+         */
+        private final Long2ObjectMap<List<IMasterLogic>> bySection = new Long2ObjectOpenHashMap<>();
+        /**
+         * Sections covered by each master, for removal
+         */
+        private final Map<IMasterLogic, long[]> sections = new IdentityHashMap<>();
+
+        /**
+         * Adds a master covering the given bounds
+         */
+        private void add(IMasterLogic master, BlockPos min, BlockPos max) {
+            int minX = ChunkSectionPos.getSectionCoord(min.getX()), maxX = ChunkSectionPos.getSectionCoord(max.getX());
+            int minY = ChunkSectionPos.getSectionCoord(min.getY()), maxY = ChunkSectionPos.getSectionCoord(max.getY());
+            int minZ = ChunkSectionPos.getSectionCoord(min.getZ()), maxZ = ChunkSectionPos.getSectionCoord(max.getZ());
+            long[] covered = new long[(maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1)];
+            int i = 0;
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        long section = ChunkSectionPos.asLong(x, y, z);
+                        covered[i++] = section;
+                        bySection.computeIfAbsent(section, s -> new ArrayList<>(1)).add(master);
+                    }
+                }
+            }
+            sections.put(master, covered);
+        }
+
+        /**
+         * Removes a master from all sections it covers
+         */
+        private void remove(IMasterLogic master) {
+            long[] covered = sections.remove(master);
+            if (covered != null) {
+                for (long section : covered) {
+                    List<IMasterLogic> masters = bySection.get(section);
+                    if (masters != null) {
+                        masters.remove(master);
+                        if (masters.isEmpty()) {
+                            bySection.remove(section);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
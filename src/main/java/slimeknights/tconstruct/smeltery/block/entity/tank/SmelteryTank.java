@@ -7,6 +7,7 @@ import lombok.Setter;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtElement;
 import net.minecraft.nbt.NbtList;
+import net.minecraft.util.Util;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.fluids.capability.IFluidHandler;
@@ -14,9 +15,12 @@ import org.jetbrains.annotations.NotNull;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.smeltery.block.entity.tank.ISmelteryTankHandler.FluidChange;
+import slimeknights.tconstruct.smeltery.network.SmelteryTankDeltaPacket;
 import slimeknights.tconstruct.smeltery.network.SmelteryTankUpdatePacket;
 
+import org.jetbrains.annotations.Nullable;
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
 
@@ -24,6 +28,15 @@ import java.util.ListIterator;
  * Fluid handler implementation for the smeltery
  */
 public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> implements IFluidHandler {
+    /**
+     * Revision used when the client has no base for deltas
+     */
+    private static final int UNKNOWN_REVISION = -1;
+    /**
+     * Milliseconds to wait for a full snapshot before requesting another
+     */
+    private static final long RESYNC_TIMEOUT = 5000;
+
     private final T parent;
     /**
      * Fluids actually contained in the tank
@@ -52,6 +65,21 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
     @Getter
     private long contained;
 
+    /**
+     * Serverside, revision of the last fluids sent to clients. Clientside, revision of the fluids currently in the tank
+     */
+    @Getter
+    private int syncRevision = UNKNOWN_REVISION;
+    /**
+     * Copy of the fluids last sent to clients, base for the next delta. Null if nothing has been sent yet
+     */
+    @Nullable
+    private List<FluidStack> lastSynced;
+    /**
+     * Clientside, time of the last full snapshot request to prevent repeated requests while waiting. 0 if no request is pending
+     */
+    private long resyncRequestTime = 0;
+
     public SmelteryTank(T parent) {
         fluids = Lists.newArrayList();
         capacity = 0;
@@ -66,8 +94,67 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
         World world = parent.getWorld();
         if (world != null && !world.isClient) {
             BlockPos pos = parent.getPos();
-            TinkerNetwork.getInstance().sendToClientsAround(new SmelteryTankUpdatePacket(pos, fluids), world, pos);
+            List<FluidStack> snapshot = copyFluids();
+            int baseRevision = syncRevision;
+            syncRevision = (syncRevision + 1) & Integer.MAX_VALUE;
+            Object packet;
+            if (lastSynced == null) {
+                packet = new SmelteryTankUpdatePacket(pos, snapshot, syncRevision);
+            } else {
+                packet = new SmelteryTankDeltaPacket(pos, baseRevision, syncRevision, lastSynced, snapshot);
+            }
+            lastSynced = snapshot;
+            TinkerNetwork.getInstance().sendToClientsAround(packet, world, pos);
+        }
+    }
+
+    /**
+     * Creates a full snapshot of the last synced fluids, for clients that cannot apply deltas
+     *
+     * @return Snapshot packet
+     */
+    public SmelteryTankUpdatePacket createSnapshotPacket() {
+        if (lastSynced == null) {
+            lastSynced = copyFluids();
+            syncRevision = (syncRevision + 1) & Integer.MAX_VALUE;
+        }
+        return new SmelteryTankUpdatePacket(parent.getPos(), lastSynced, syncRevision);
+    }
+
+    /**
+     * Marks that the client requested a full snapshot
+     *
+     * @return True if a request should be sent, false if one is already pending
+     */
+    public boolean requestResync() {
+        // the server may drop a request, for instance while the chunk is still being sent, so ask again if no snapshot came in time
+        long time = Util.getMeasuringTimeMs();
+        if (resyncRequestTime != 0 && time - resyncRequestTime < RESYNC_TIMEOUT) {
+            return false;
+        }
+        resyncRequestTime = time;
+        return true;
+    }
+
+    /**
+     * Sets the revision of the fluids in the tank, clearing any pending resync
+     *
+     * @param revision New revision
+     */
+    public void setSyncRevision(int revision) {
+        this.syncRevision = revision;
+        this.resyncRequestTime = 0;
+    }
+
+    /**
+     * Copies all fluids in the tank, as stacks are modified in place
+     */
+    private List<FluidStack> copyFluids() {
+        List<FluidStack> copy = new ArrayList<>(fluids.size());
+        for (FluidStack fluid : fluids) {
+            copy.add(fluid.copy());
         }
+        return copy;
     }
 
 
@@ -301,5 +388,9 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
             }
         }
         this.capacity = tag.getInt(TAG_CAPACITY);
+        // fluids no longer match any synced revision, so the next sync is a full snapshot
+        this.syncRevision = UNKNOWN_REVISION;
+        this.lastSynced = null;
+        this.resyncRequestTime = 0;
     }
 }
@@ -1,5 +1,7 @@
 package slimeknights.tconstruct.smeltery.client.render;
 
+import io.github.fabricators_of_create.porting_lib.fluids.FluidStack;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
 import net.minecraft.block.BlockState;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.*;
@@ -7,26 +9,45 @@ import net.minecraft.client.render.block.entity.BlockEntityRenderer;
 import net.minecraft.client.render.block.entity.BlockEntityRendererFactory.Context;
 import net.minecraft.client.render.item.ItemRenderer;
 import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.texture.Sprite;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.RotationAxis;
+import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.random.Random;
 import net.minecraft.util.shape.VoxelShapes;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
 import org.joml.Quaternionf;
 import slimeknights.tconstruct.common.config.Config;
+import slimeknights.tconstruct.library.client.RecordedVertices;
 import slimeknights.tconstruct.library.client.TinkerRenderTypes;
 import slimeknights.tconstruct.library.client.model.TinkerTransformTypes;
+import slimeknights.tconstruct.library.client.model.tools.ToolModel;
 import slimeknights.tconstruct.smeltery.block.controller.ControllerBlock;
 import slimeknights.tconstruct.smeltery.block.entity.controller.HeatingStructureBlockEntity;
 import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModuleInventory;
 import slimeknights.tconstruct.smeltery.block.entity.multiblock.HeatingStructureMultiblock.StructureData;
+import slimeknights.tconstruct.smeltery.block.entity.tank.SmelteryTank;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 public class HeatingStructureBlockEntityRenderer implements BlockEntityRenderer<HeatingStructureBlockEntity> {
     private static final float ITEM_SCALE = 15f / 16f;
 
+    /**
+     * Recorded contents for each structure, replayed each frame until the contents change.
+     * Renderers are recreated on resource reload, which clears any recordings using old sprites
+     */
+    private final Map<HeatingStructureBlockEntity, ContentsCache> caches = new WeakHashMap<>();
+
     public HeatingStructureBlockEntityRenderer(Context context) {
     }
 
@@ -70,62 +91,226 @@ public class HeatingStructureBlockEntityRenderer implements BlockEntityRenderer<
         // offset to make rendering min pos relative
         matrices.push();
         matrices.translate(minPos.getX() - pos.getX(), minPos.getY() - pos.getY(), minPos.getZ() - pos.getZ());
-        // render tank fluids, use minPos for brightness
-        SmelteryTankRenderer.renderFluids(matrices, buffer, smeltery.getTank(), minPos, maxPos, WorldRenderer.getLightmapCoordinates(world, minPos));
+        // contents are recorded without light, use minPos for brightness
+        int light = WorldRenderer.getLightmapCoordinates(world, minPos);
+        MatrixStack.Entry pose = matrices.peek();
+        ContentsCache cache = caches.computeIfAbsent(smeltery, s -> new ContentsCache());
+
+        // render tank fluids
+        SmelteryTank<?> tank = smeltery.getTank();
+        if (!cache.fluidsMatch(tank, minPos, maxPos)) {
+            cache.rebuildFluids(tank, minPos, maxPos);
+        }
+        cache.fluidVertices.render(buffer, pose, light);
 
         // render items
-        int xd = 1 + maxPos.getX() - minPos.getX();
-        int zd = 1 + maxPos.getZ() - minPos.getZ();
-        int layer = xd * zd;
-        Direction facing = state.get(ControllerBlock.FACING);
-        Quaternionf itemRotation = RotationAxis.POSITIVE_Y.rotationDegrees(-90.0F * (float) facing.getHorizontal());
-        MeltingModuleInventory inventory = smeltery.getMeltingInventory();
-        MinecraftClient mc = MinecraftClient.getInstance();
-        ItemRenderer itemRenderer = mc.getItemRenderer();
         int max = Config.CLIENT.maxSmelteryItemQuads.get();
         if (max != 0) {
+            Direction facing = state.get(ControllerBlock.FACING);
+            MeltingModuleInventory inventory = smeltery.getMeltingInventory();
+            ItemRenderer itemRenderer = MinecraftClient.getInstance().getItemRenderer();
+            if (!cache.itemsMatch(inventory, minPos, maxPos, facing, max)) {
+                cache.rebuildItems(inventory, itemRenderer, world, minPos, maxPos, facing, max);
+            }
+            // far away items are too small to make out, so a flat sprite is enough
+            int billboardDistance = Config.CLIENT.smelteryItemBillboardDistance.get();
+            if (billboardDistance > 0 && getDistanceSquared(minPos, maxPos) > billboardDistance * billboardDistance) {
+                renderBillboards(cache, matrices, buffer, light);
+            } else {
+                cache.itemVertices.render(buffer, pose, light);
+            }
+        }
+
+        matrices.pop();
+    }
+
+    /**
+     * Gets the squared distance from the camera to the center of the structure
+     */
+    private static double getDistanceSquared(BlockPos minPos, BlockPos maxPos) {
+        Vec3d camera = MinecraftClient.getInstance().gameRenderer.getCamera().getPos();
+        return camera.squaredDistanceTo((minPos.getX() + maxPos.getX() + 1) / 2d, (minPos.getY() + maxPos.getY() + 1) / 2d, (minPos.getZ() + maxPos.getZ() + 1) / 2d);
+    }
+
+    /**
+     * Renders each cached item as a single sprite facing the camera
+     */
+    private static void renderBillboards(ContentsCache cache, MatrixStack matrices, VertexConsumerProvider buffer, int light) {
+        Quaternionf rotation = MinecraftClient.getInstance().getEntityRenderDispatcher().getRotation();
+        for (int i = 0; i < cache.sprites.length; i++) {
+            Sprite sprite = cache.sprites[i];
+            matrices.push();
+            matrices.translate(cache.positions[i * 3], cache.positions[i * 3 + 1], cache.positions[i * 3 + 2]);
+            matrices.multiply(rotation);
+            matrices.scale(ITEM_SCALE, ITEM_SCALE, ITEM_SCALE);
+            MatrixStack.Entry entry = matrices.peek();
+            Matrix4f matrix = entry.getPositionMatrix();
+            Matrix3f normal = entry.getNormalMatrix();
+            VertexConsumer consumer = buffer.getBuffer(RenderLayer.getEntityCutoutNoCull(sprite.getAtlasId()));
+            consumer.vertex(matrix, -0.5f, -0.5f, 0).color(255, 255, 255, 255).texture(sprite.getMinU(), sprite.getMaxV()).overlay(OverlayTexture.DEFAULT_UV).light(light).normal(normal, 0, 1, 0).next();
+            consumer.vertex(matrix, 0.5f, -0.5f, 0).color(255, 255, 255, 255).texture(sprite.getMaxU(), sprite.getMaxV()).overlay(OverlayTexture.DEFAULT_UV).light(light).normal(normal, 0, 1, 0).next();
+            consumer.vertex(matrix, 0.5f, 0.5f, 0).color(255, 255, 255, 255).texture(sprite.getMaxU(), sprite.getMinV()).overlay(OverlayTexture.DEFAULT_UV).light(light).normal(normal, 0, 1, 0).next();
+            consumer.vertex(matrix, -0.5f, 0.5f, 0).color(255, 255, 255, 255).texture(sprite.getMinU(), sprite.getMinV()).overlay(OverlayTexture.DEFAULT_UV).light(light).normal(normal, 0, 1, 0).next();
+            matrices.pop();
+        }
+    }
+
+    /**
+     * Estimates the number of quads in the given model
+     */
+    private static int estimateQuads(BakedModel model, Random random) {
+        // builtin has no quads, lets pretend its 100 as they are more expensive
+        if (model.isBuiltin()) {
+            return 100;
+        }
+        // not setting the seed on the random and ignoring the forge layered model stuff means this is just an estimate, but since this is for the sake of performance its not a huge deal for it to be exact
+        int quads = model.getQuads(null, null, random).size();
+        for (Direction direction : Direction.values()) {
+            quads += model.getQuads(null, direction, random).size();
+        }
+        return quads;
+    }
+
+    /**
+     * Recorded contents of a single structure, along with the state they were recorded from.
+     * Fluids and items are tracked separately as fluids change far more often while melting.
+     */
+    private static class ContentsCache {
+        // fluids
+        private RecordedVertices fluidVertices = new RecordedVertices();
+        @Nullable
+        private BlockPos fluidMinPos, fluidMaxPos;
+        private long capacity = -1;
+        private List<FluidStack> fluids = List.of();
+
+        // items
+        private RecordedVertices itemVertices = new RecordedVertices();
+        @Nullable
+        private BlockPos itemMinPos, itemMaxPos;
+        @Nullable
+        private Direction facing;
+        private int maxQuads;
+        private ItemStack[] stacks = new ItemStack[0];
+        /**
+         * Tool model bake generation when the items were recorded, as tool models may finish baking after the stack is first drawn
+         */
+        private int modelGeneration = -1;
+        /**
+         * Particle sprites and positions for each rendered item, used when the structure is far away
+         */
+        private Sprite[] sprites = new Sprite[0];
+        private float[] positions = new float[0];
+
+        /**
+         * Checks if the recorded fluids are still current
+         */
+        private boolean fluidsMatch(SmelteryTank<?> tank, BlockPos minPos, BlockPos maxPos) {
+            if (!minPos.equals(fluidMinPos) || !maxPos.equals(fluidMaxPos) || tank.getCapacity() != capacity) {
+                return false;
+            }
+            List<FluidStack> current = tank.getFluids();
+            if (current.size() != fluids.size()) {
+                return false;
+            }
+            for (int i = 0; i < current.size(); i++) {
+                FluidStack fluid = current.get(i);
+                FluidStack recorded = fluids.get(i);
+                if (fluid.getAmount() != recorded.getAmount() || !fluid.isFluidEqual(recorded)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Records the current tank fluids
+         */
+        private void rebuildFluids(SmelteryTank<?> tank, BlockPos minPos, BlockPos maxPos) {
+            fluidVertices = new RecordedVertices();
+            SmelteryTankRenderer.renderFluids(new MatrixStack(), fluidVertices, tank, minPos, maxPos, 0);
+            // stacks in the tank are modified in place, so copy them
+            fluids = tank.getFluids().stream().map(FluidStack::copy).toList();
+            capacity = tank.getCapacity();
+            fluidMinPos = minPos.toImmutable();
+            fluidMaxPos = maxPos.toImmutable();
+        }
+
+        /**
+         * Checks if the recorded items are still current. Inventory updates replace the stack, so stacks are compared by identity.
+         * Resource reloads recreate the renderer, so models only change without the stack changing when a tool model finishes baking.
+         */
+        private boolean itemsMatch(MeltingModuleInventory inventory, BlockPos minPos, BlockPos maxPos, Direction facing, int maxQuads) {
+            if (facing != this.facing || maxQuads != this.maxQuads || modelGeneration != ToolModel.getBakeGeneration()
+                    || !minPos.equals(itemMinPos) || !maxPos.equals(itemMaxPos) || inventory.getSlots() != stacks.length) {
+                return false;
+            }
+            for (int i = 0; i < stacks.length; i++) {
+                if (inventory.getStackInSlot(i) != stacks[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Records the items in the inventory
+         */
+        private void rebuildItems(MeltingModuleInventory inventory, ItemRenderer itemRenderer, World world, BlockPos minPos, BlockPos maxPos, Direction facing, int maxQuads) {
+            // read before fetching models, so a bake finishing partway through triggers another rebuild
+            modelGeneration = ToolModel.getBakeGeneration();
+            int slots = inventory.getSlots();
+            stacks = new ItemStack[slots];
+            itemVertices = new RecordedVertices();
+            List<Sprite> sprites = new ArrayList<>();
+            FloatArrayList positions = new FloatArrayList();
+
+            int xd = 1 + maxPos.getX() - minPos.getX();
+            int zd = 1 + maxPos.getZ() - minPos.getZ();
+            int layer = xd * zd;
+            Quaternionf itemRotation = RotationAxis.POSITIVE_Y.rotationDegrees(-90.0F * (float) facing.getHorizontal());
+            MatrixStack matrices = new MatrixStack();
+            Random random = world.getRandom();
             int quadsRendered = 0;
-            for (int i = 0; i < inventory.getSlots(); i++) {
+            for (int i = 0; i < slots; i++) {
                 ItemStack stack = inventory.getStackInSlot(i);
+                stacks[i] = stack;
                 if (!stack.isEmpty()) {
+                    BakedModel model = itemRenderer.getModel(stack, world, null, 0);
+                    // once over budget, remaining slots are just tracked for changes
+                    if (quadsRendered > maxQuads && maxQuads != -1) {
+                        continue;
+                    }
                     // calculate position inside the smeltery from slot index
                     int height = i / layer;
                     int layerIndex = i % layer;
                     int offsetX = layerIndex % xd;
                     int offsetZ = layerIndex / xd;
-                    BlockPos itemPos = minPos.add(offsetX, height, offsetZ);
 
                     // offset to the slot position in the structure, scale, and rotate the item
                     matrices.push();
                     matrices.translate(offsetX + 0.5f, height + 0.5f, offsetZ + 0.5f);
                     matrices.multiply(itemRotation);
                     matrices.scale(ITEM_SCALE, ITEM_SCALE, ITEM_SCALE);
-                    BakedModel model = itemRenderer.getModel(stack, world, null, 0);
-                    itemRenderer.renderItem(stack, TinkerTransformTypes.MELTER, false, matrices, buffer, WorldRenderer.getLightmapCoordinates(world, itemPos), OverlayTexture.DEFAULT_UV, model);
+                    itemRenderer.renderItem(stack, TinkerTransformTypes.MELTER, false, matrices, itemVertices, 0, OverlayTexture.DEFAULT_UV, model);
                     matrices.pop();
+                    sprites.add(model.getParticleSprite());
+                    positions.add(offsetX + 0.5f);
+                    positions.add(height + 0.5f);
+                    positions.add(offsetZ + 0.5f);
 
                     // done as quads rather than items as its not that expensive to draw blocks, items are the problem
-                    if (max != -1) {
-                        // builtin has no quads, lets pretend its 100 as they are more expensive
-                        if (model.isBuiltin()) {
-                            quadsRendered += 100;
-                        } else {
-                            Random random = smeltery.getWorld().getRandom();
-                            // not setting the seed on the random and ignoring the forge layered model stuff means this is just an estimate, but since this is for the sake of performance its not a huge deal for it to be exact
-                            for (Direction direction : Direction.values()) {
-                                quadsRendered += model.getQuads(null, direction, random).size();
-                            }
-                            quadsRendered += model.getQuads(null, null, random).size();
-                        }
-                        if (quadsRendered > max) {
-                            break;
-                        }
+                    if (maxQuads != -1) {
+                        quadsRendered += estimateQuads(model, random);
                     }
                 }
             }
+            this.sprites = sprites.toArray(new Sprite[0]);
+            this.positions = positions.toFloatArray();
+            this.facing = facing;
+            this.maxQuads = maxQuads;
+            itemMinPos = minPos.toImmutable();
+            itemMaxPos = maxPos.toImmutable();
         }
-
-        matrices.pop();
     }
 
     @Override
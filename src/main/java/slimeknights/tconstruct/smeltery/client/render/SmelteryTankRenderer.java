@@ -59,7 +59,8 @@ public class SmelteryTankRenderer {
     }
 
     /**
-     * Renders the smeltery tank fluids, relative to tankMinPos
+     * Renders the smeltery tank fluids, relative to tankMinPos.
+     * Fluid light levels are applied on top of the passed brightness, so the result may be recorded with no light and replayed with the world light.
      *
      * @param matrices   Matrix stack instance
      * @param buffer     Buffer instance
@@ -142,7 +143,9 @@ public class SmelteryTankRenderer {
         int rotation = upsideDown ? 180 : 0;
         for (int y = 0; y <= yd; y++) {
             for (int z = 0; z <= zd; z++) {
-                for (int x = 0; x <= xd; x++) {
+                // only the outer surface has faces, so rows in the middle of the cuboid just need the two ends
+                int step = y == 0 || y == yd || z == 0 || z == zd ? 1 : Math.max(xd, 1);
+                for (int x = 0; x <= xd; x += step) {
                     from.set(xBounds[x], yBounds[y], zBounds[z]);
                     to.set(xBounds[x + 1], yBounds[y + 1], zBounds[z + 1]);
                     if (x == 0)
@@ -3,37 +3,47 @@ package slimeknights.tconstruct.smeltery.network;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.network.PacketByteBuf;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Direction;
+import net.minecraft.world.World;
 import net.minecraftforge.network.NetworkEvent.Context;
 import slimeknights.mantle.network.packet.IThreadsafePacket;
 import slimeknights.mantle.util.BlockEntityHelper;
 import slimeknights.tconstruct.smeltery.block.entity.ChannelBlockEntity;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
- * Packet for when the flowing state changes on a channel side
+ * Packet for when the flowing state changes on channels, batched for all channels in a network that changed in a tick
  */
 public class ChannelFlowPacket implements IThreadsafePacket {
-    private final BlockPos pos;
-    private final Direction side;
-    private final boolean flow;
-
-    public ChannelFlowPacket(BlockPos pos, Direction side, boolean flow) {
-        this.pos = pos;
-        this.side = side;
-        this.flow = flow;
+    private final List<BlockPos> positions;
+    /**
+     * Flowing state of each channel, see {@link ChannelBlockEntity#getFlowMask()}
+     */
+    private final byte[] flows;
+
+    public ChannelFlowPacket(List<BlockPos> positions, byte[] flows) {
+        this.positions = positions;
+        this.flows = flows;
     }
 
     public ChannelFlowPacket(PacketByteBuf buffer) {
-        this.pos = buffer.readBlockPos();
-        this.side = buffer.readEnumConstant(Direction.class);
-        this.flow = buffer.readBoolean();
+        int size = buffer.readVarInt();
+        this.positions = new ArrayList<>(size);
+        this.flows = new byte[size];
+        for (int i = 0; i < size; i++) {
+            this.positions.add(buffer.readBlockPos());
+            this.flows[i] = buffer.readByte();
+        }
     }
 
     @Override
     public void encode(PacketByteBuf buffer) {
-        buffer.writeBlockPos(this.pos);
-        buffer.writeEnumConstant(this.side);
-        buffer.writeBoolean(this.flow);
+        buffer.writeVarInt(this.positions.size());
+        for (int i = 0; i < this.positions.size(); i++) {
+            buffer.writeBlockPos(this.positions.get(i));
+            buffer.writeByte(this.flows[i]);
+        }
     }
 
     @Override
@@ -43,7 +53,11 @@ public class ChannelFlowPacket implements IThreadsafePacket {
 
     private static class HandleClient {
         private static void handle(ChannelFlowPacket packet) {
-            BlockEntityHelper.get(ChannelBlockEntity.class, MinecraftClient.getInstance().world, packet.pos).ifPresent(te -> te.setFlow(packet.side, packet.flow));
+            World world = MinecraftClient.getInstance().world;
+            for (int i = 0; i < packet.positions.size(); i++) {
+                byte flow = packet.flows[i];
+                BlockEntityHelper.get(ChannelBlockEntity.class, world, packet.positions.get(i)).ifPresent(te -> te.setFlowMask(flow));
+            }
         }
     }
 }
@@ -0,0 +1,185 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import io.github.fabricators_of_create.porting_lib.fluids.FluidStack;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.network.NetworkEvent.Context;
+import slimeknights.mantle.network.packet.IThreadsafePacket;
+import slimeknights.mantle.util.BlockEntityHelper;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.smeltery.block.entity.tank.ISmelteryTankHandler;
+import slimeknights.tconstruct.smeltery.block.entity.tank.SmelteryTank;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packet sent when the contents of the smeltery tank change, containing only the differences from the last synced revision.
+ * Each fluid is either a reference to a fluid in the previous revision, optionally with a new amount, or a full fluid stack if new.
+ * If the client is not on the base revision, it requests a full snapshot using {@link SmelteryTankResyncPacket}.
+ */
+public class SmelteryTankDeltaPacket implements IThreadsafePacket {
+    /**
+     * Entry code for a fluid not in the previous revision
+     */
+    private static final int NEW_FLUID = 0;
+
+    private final BlockPos pos;
+    /**
+     * Revision this delta applies to
+     */
+    private final int baseRevision;
+    /**
+     * Revision after applying this delta
+     */
+    private final int revision;
+    /**
+     * Encoded entry for each fluid, either {@link #NEW_FLUID} or the previous index plus one shifted left, with the lowest bit set if the amount changed
+     */
+    private final int[] codes;
+    /**
+     * New amount for each changed entry
+     */
+    private final long[] amounts;
+    /**
+     * Full stack for each new entry, null for all other entries
+     */
+    private final FluidStack[] added;
+
+    /**
+     * Creates a delta between two revisions
+     *
+     * @param pos          Tank position
+     * @param baseRevision Revision of the old fluids
+     * @param revision     Revision of the new fluids
+     * @param oldFluids    Fluids last synced
+     * @param newFluids    Fluids to sync
+     */
+    public SmelteryTankDeltaPacket(BlockPos pos, int baseRevision, int revision, List<FluidStack> oldFluids, List<FluidStack> newFluids) {
+        this.pos = pos;
+        this.baseRevision = baseRevision;
+        this.revision = revision;
+        int size = newFluids.size();
+        this.codes = new int[size];
+        this.amounts = new long[size];
+        this.added = new FluidStack[size];
+        for (int i = 0; i < size; i++) {
+            FluidStack fluid = newFluids.get(i);
+            int oldIndex = indexOf(oldFluids, fluid);
+            if (oldIndex == -1) {
+                codes[i] = NEW_FLUID;
+                added[i] = fluid;
+            } else {
+                boolean changed = oldFluids.get(oldIndex).getAmount() != fluid.getAmount();
+                codes[i] = ((oldIndex + 1) << 1) | (changed ? 1 : 0);
+                amounts[i] = fluid.getAmount();
+            }
+        }
+    }
+
+    public SmelteryTankDeltaPacket(PacketByteBuf buffer) {
+        this.pos = buffer.readBlockPos();
+        this.baseRevision = buffer.readVarInt();
+        this.revision = buffer.readVarInt();
+        int size = buffer.readVarInt();
+        this.codes = new int[size];
+        this.amounts = new long[size];
+        this.added = new FluidStack[size];
+        for (int i = 0; i < size; i++) {
+            int code = buffer.readVarInt();
+            codes[i] = code;
+            if (code == NEW_FLUID) {
+                added[i] = buffer.readFluidStack();
+            } else if ((code & 1) == 1) {
+                amounts[i] = buffer.readVarLong();
+            }
+        }
+    }
+
+    /**
+     * Finds the index of the given fluid in the list
+     */
+    private static int indexOf(List<FluidStack> fluids, FluidStack fluid) {
+        for (int i = 0; i < fluids.size(); i++) {
+            if (fluids.get(i).isFluidEqual(fluid)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void encode(PacketByteBuf buffer) {
+        int start = buffer.writerIndex();
+        buffer.writeBlockPos(this.pos);
+        buffer.writeVarInt(this.baseRevision);
+        buffer.writeVarInt(this.revision);
+        buffer.writeVarInt(this.codes.length);
+        for (int i = 0; i < codes.length; i++) {
+            int code = codes[i];
+            buffer.writeVarInt(code);
+            if (code == NEW_FLUID) {
+                buffer.writeFluidStack(added[i]);
+            } else if ((code & 1) == 1) {
+                buffer.writeVarLong(amounts[i]);
+            }
+        }
+        SmelteryTankSyncMetrics.recordDelta(buffer.writerIndex() - start);
+    }
+
+    /**
+     * Applies this delta to the given tank
+     *
+     * @param tank Tank to update
+     * @return New fluid list, or null if the tank is not on the base revision
+     */
+    @Nullable
+    private List<FluidStack> apply(SmelteryTank<?> tank) {
+        if (tank.getSyncRevision() != baseRevision) {
+            return null;
+        }
+        List<FluidStack> oldFluids = tank.getFluids();
+        List<FluidStack> newFluids = new ArrayList<>(codes.length);
+        for (int i = 0; i < codes.length; i++) {
+            int code = codes[i];
+            if (code == NEW_FLUID) {
+                newFluids.add(added[i]);
+            } else {
+                int oldIndex = (code >> 1) - 1;
+                if (oldIndex >= oldFluids.size()) {
+                    return null;
+                }
+                FluidStack fluid = oldFluids.get(oldIndex).copy();
+                if ((code & 1) == 1) {
+                    fluid.setAmount(amounts[i]);
+                }
+                newFluids.add(fluid);
+            }
+        }
+        return newFluids;
+    }
+
+    @Override
+    public void handleThreadsafe(Context context) {
+        HandleClient.handle(this);
+    }
+
+    private static class HandleClient {
+        private static void handle(SmelteryTankDeltaPacket packet) {
+            BlockEntityHelper.get(ISmelteryTankHandler.class, MinecraftClient.getInstance().world, packet.pos).ifPresent(te -> {
+                SmelteryTank<?> tank = te.getTank();
+                List<FluidStack> fluids = packet.apply(tank);
+                if (fluids != null) {
+                    te.updateFluidsFromPacket(fluids);
+                    tank.setSyncRevision(packet.revision);
+                } else if (tank.requestResync()) {
+                    // out of sync, ask the server for a full snapshot
+                    TinkerNetwork.getInstance().sendToServer(new SmelteryTankResyncPacket(packet.pos));
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import lombok.RequiredArgsConstructor;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraftforge.network.NetworkEvent.Context;
+import slimeknights.mantle.network.packet.IThreadsafePacket;
+import slimeknights.mantle.util.BlockEntityHelper;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.smeltery.block.entity.tank.ISmelteryTankHandler;
+
+/**
+ * Packet sent by the client when it cannot apply a {@link SmelteryTankDeltaPacket}, requesting a full snapshot of the tank
+ */
+@RequiredArgsConstructor
+public class SmelteryTankResyncPacket implements IThreadsafePacket {
+    private final BlockPos pos;
+
+    public SmelteryTankResyncPacket(PacketByteBuf buffer) {
+        this.pos = buffer.readBlockPos();
+    }
+
+    @Override
+    public void encode(PacketByteBuf buffer) {
+        buffer.writeBlockPos(this.pos);
+    }
+
+    @Override
+    public void handleThreadsafe(Context context) {
+        ServerPlayerEntity sender = context.getSender();
+        if (sender != null) {
+            ServerWorld world = sender.getServerWorld();
+            // don't load chunks for a client request, and only answer players who are sent deltas for the position
+            if (world.isChunkLoaded(pos) && world.getChunkManager().threadedAnvilChunkStorage.getPlayersWatchingChunk(new ChunkPos(pos), false).contains(sender)) {
+                BlockEntityHelper.get(ISmelteryTankHandler.class, world, pos).ifPresent(te -> TinkerNetwork.getInstance().sendTo(te.getTank().createSnapshotPacket(), sender));
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import slimeknights.tconstruct.TConstruct;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts bytes sent to sync smeltery tanks, used to compare full snapshots against delta updates.
+ * A summary is logged at debug level at most once a minute.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SmelteryTankSyncMetrics {
+    /**
+     * Minimum time between summary logs
+     */
+    private static final long LOG_INTERVAL = 60_000;
+
+    private static final LongAdder FULL_PACKETS = new LongAdder();
+    private static final LongAdder FULL_BYTES = new LongAdder();
+    private static final LongAdder DELTA_PACKETS = new LongAdder();
+    private static final LongAdder DELTA_BYTES = new LongAdder();
+    private static final AtomicLong LAST_LOG = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * Records an encoded full snapshot packet
+     *
+     * @param bytes Encoded size
+     */
+    public static void recordFull(int bytes) {
+        FULL_PACKETS.increment();
+        FULL_BYTES.add(bytes);
+        logIfNeeded();
+    }
+
+    /**
+     * Records an encoded delta packet
+     *
+     * @param bytes Encoded size
+     */
+    public static void recordDelta(int bytes) {
+        DELTA_PACKETS.increment();
+        DELTA_BYTES.add(bytes);
+        logIfNeeded();
+    }
+
+    /**
+     * Gets the total bytes sent in full snapshots
+     */
+    public static long getFullBytes() {
+        return FULL_BYTES.sum();
+    }
+
+    /**
+     * Gets the total bytes sent in delta packets
+     */
+    public static long getDeltaBytes() {
+        return DELTA_BYTES.sum();
+    }
+
+    /**
+     * Logs a summary if enough time has passed since the last summary
+     */
+    private static void logIfNeeded() {
+        if (TConstruct.LOG.isDebugEnabled()) {
+            long now = System.currentTimeMillis();
+            long last = LAST_LOG.get();
+            if (now - last >= LOG_INTERVAL && LAST_LOG.compareAndSet(last, now)) {
+                TConstruct.LOG.debug("Smeltery tank sync: {} full snapshots ({} bytes), {} deltas ({} bytes)",
+                        FULL_PACKETS.sum(), FULL_BYTES.sum(), DELTA_PACKETS.sum(), DELTA_BYTES.sum());
+            }
+        }
+    }
+}
@@ -14,15 +14,20 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Packet sent whenever the contents of the smeltery tank change
+ * Packet sent with a full snapshot of the smeltery tank, used as the base for {@link SmelteryTankDeltaPacket}
  */
 @AllArgsConstructor
 public class SmelteryTankUpdatePacket implements IThreadsafePacket {
     private final BlockPos pos;
     private final List<FluidStack> fluids;
+    /**
+     * Sync revision of this snapshot
+     */
+    private final int revision;
 
     public SmelteryTankUpdatePacket(PacketByteBuf buffer) {
         this.pos = buffer.readBlockPos();
+        this.revision = buffer.readVarInt();
         int size = buffer.readVarInt();
         this.fluids = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
@@ -32,11 +37,14 @@ public class SmelteryTankUpdatePacket implements IThreadsafePacket {
 
     @Override
     public void encode(PacketByteBuf buffer) {
+        int start = buffer.writerIndex();
         buffer.writeBlockPos(this.pos);
+        buffer.writeVarInt(this.revision);
         buffer.writeVarInt(this.fluids.size());
         for (FluidStack fluid : this.fluids) {
             buffer.writeFluidStack(fluid);
         }
+        SmelteryTankSyncMetrics.recordFull(buffer.writerIndex() - start);
     }
 
     @Override
@@ -46,7 +54,10 @@ public class SmelteryTankUpdatePacket implements IThreadsafePacket {
 
     private static class HandleClient {
         private static void handle(SmelteryTankUpdatePacket packet) {
-            BlockEntityHelper.get(ISmelteryTankHandler.class, MinecraftClient.getInstance().world, packet.pos).ifPresent(te -> te.updateFluidsFromPacket(packet.fluids));
+            BlockEntityHelper.get(ISmelteryTankHandler.class, MinecraftClient.getInstance().world, packet.pos).ifPresent(te -> {
+                te.updateFluidsFromPacket(packet.fluids);
+                te.getTank().setSyncRevision(packet.revision);
+            });
         }
     }
 }
@@ -3,9 +3,9 @@ package slimeknights.tconstruct.tables.block.entity.inventory;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.library.materials.definition.IMaterial;
 import slimeknights.tconstruct.library.materials.definition.MaterialVariantId;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.casting.material.MaterialCastingLookup;
 import slimeknights.tconstruct.library.recipe.material.IMaterialValue;
+import slimeknights.tconstruct.library.recipe.material.MaterialRecipeLookup;
 import slimeknights.tconstruct.library.recipe.material.MaterialValue;
 import slimeknights.tconstruct.library.recipe.partbuilder.IPartBuilderContainer;
 import slimeknights.tconstruct.library.tools.part.IMaterialItem;
@@ -74,8 +74,7 @@ public class PartBuilderContainerWrapper implements IPartBuilderContainer {
                     this.material = new MaterialValue(material, MaterialCastingLookup.getItemCost(stack.getItem()));
                 }
             } else {
-                World world = getWorld();
-                this.material = world.getRecipeManager().getFirstMatch(TinkerRecipeTypes.MATERIAL.get(), this, world).orElse(null);
+                this.material = MaterialRecipeLookup.findRecipe(getWorld(), stack);
             }
         }
         return this.material;
@@ -4,17 +4,14 @@ import lombok.Setter;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.world.World;
-import slimeknights.mantle.recipe.container.ISingleStackContainer;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.material.MaterialRecipe;
+import slimeknights.tconstruct.library.recipe.material.MaterialRecipeLookup;
 import slimeknights.tconstruct.library.recipe.tinkerstation.IMutableTinkerStationContainer;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.tables.block.entity.table.TinkerStationBlockEntity;
 
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Optional;
-
 import static slimeknights.tconstruct.tables.block.entity.table.TinkerStationBlockEntity.INPUT_SLOT;
 import static slimeknights.tconstruct.tables.block.entity.table.TinkerStationBlockEntity.TINKER_SLOT;
 
@@ -35,7 +32,6 @@ public class TinkerStationContainerWrapper implements IMutableTinkerStationConta
     @Nullable
     private ToolStack tool;
 
-    private MaterialRecipe lastMaterialRecipe;
     @Nullable
     @Setter
     private PlayerEntity player;
@@ -65,19 +61,7 @@ public class TinkerStationContainerWrapper implements IMutableTinkerStationConta
         if (world == null) {
             return null;
         }
-        // try last recipe
-        ISingleStackContainer inv = () -> stack;
-        if (this.lastMaterialRecipe != null && this.lastMaterialRecipe.matches(inv, world)) {
-            return this.lastMaterialRecipe;
-        }
-        // try to find a new recipe
-        Optional<MaterialRecipe> newRecipe = world.getRecipeManager().getFirstMatch(TinkerRecipeTypes.MATERIAL.get(), inv, world);
-        if (newRecipe.isPresent()) {
-            this.lastMaterialRecipe = newRecipe.get();
-            return this.lastMaterialRecipe;
-        }
-        // if none found, return null
-        return null;
+        return MaterialRecipeLookup.findRecipe(world, stack);
     }
 
     /**
@@ -6,7 +6,6 @@ import net.minecraft.block.BlockState;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.item.ItemStack;
-import net.minecraft.recipe.RecipeManager;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.sound.SoundEvents;
@@ -21,8 +20,8 @@ import slimeknights.tconstruct.common.SoundUtils;
 import slimeknights.tconstruct.common.Sounds;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.recipe.RecipeResult;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.tinkerstation.ITinkerStationRecipe;
+import slimeknights.tconstruct.library.recipe.tinkerstation.TinkerStationRecipeLookup;
 import slimeknights.tconstruct.library.tools.helper.TooltipUtil;
 import slimeknights.tconstruct.shared.inventory.ConfigurableInvWrapperCapability;
 import slimeknights.tconstruct.tables.TinkerTables;
@@ -127,13 +126,11 @@ public class TinkerStationBlockEntity extends RetexturedTableBlockEntity impleme
         this.currentError = null;
 
         if (!this.world.isClient && this.world.getServer() != null) {
-            RecipeManager manager = this.world.getServer().getRecipeManager();
-
             // first, try the cached recipe
             ITinkerStationRecipe recipe = this.lastRecipe;
             // if it does not match, find a new recipe
             if (recipe == null || !recipe.matches(this.inventoryWrapper, this.world)) {
-                recipe = manager.getFirstMatch(TinkerRecipeTypes.TINKER_STATION.get(), this.inventoryWrapper, this.world).orElse(null);
+                recipe = TinkerStationRecipeLookup.findRecipe(this.world, this.inventoryWrapper);
             }
 
             // if we have a recipe, fetch its result
@@ -34,6 +34,7 @@ public class TinkerStationDamagingRecipe implements ITinkerStationRecipe {
 
     @Getter
     private final Identifier id;
+    @Getter
     private final Ingredient ingredient;
     private final int damageAmount;
 
@@ -52,6 +52,7 @@ import slimeknights.tconstruct.library.tools.definition.module.mining.OneClickBr
 import slimeknights.tconstruct.library.tools.definition.module.weapon.CircleWeaponAttack;
 import slimeknights.tconstruct.library.tools.definition.module.weapon.ParticleWeaponAttack;
 import slimeknights.tconstruct.library.tools.definition.module.weapon.SweepWeaponAttack;
+import slimeknights.tconstruct.library.tools.helper.DeferredHarvest;
 import slimeknights.tconstruct.library.tools.helper.ModifierLootingHandler;
 import slimeknights.tconstruct.library.tools.item.ModifiableItem;
 import slimeknights.tconstruct.library.tools.item.armor.ModifiableArmorItem;
@@ -169,6 +170,7 @@ public final class TinkerTools extends TinkerModule {
     @SubscribeEvent
     void commonSetup(FMLCommonSetupEvent event) {
         EquipmentChangeWatcher.register();
+        DeferredHarvest.init();
         ToolCapabilityProvider.register(ToolFluidCapability.Provider::new);
         ToolCapabilityProvider.register(ToolInventoryCapability.Provider::new);
         for (ConfigurableAction action : Config.COMMON.toolTweaks) {
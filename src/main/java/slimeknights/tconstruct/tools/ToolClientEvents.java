@@ -47,6 +47,7 @@ import slimeknights.tconstruct.library.modifiers.ModifierId;
 import slimeknights.tconstruct.library.modifiers.ModifierManager;
 import slimeknights.tconstruct.library.modifiers.modules.technical.ArmorStatModule;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataKeys;
+import slimeknights.tconstruct.library.tools.helper.ToolTooltipCache;
 import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 import slimeknights.tconstruct.library.utils.HarvestTiers;
@@ -84,6 +85,7 @@ public class ToolClientEvents extends ClientEventBase {
     static void addResourceListener(RegisterClientReloadListenersEvent manager) {
         ModifierModelManager.init(manager);
         MaterialTooltipCache.init(manager);
+        ToolTooltipCache.init(manager);
         DynamicTextureLoader.init(manager);
         manager.registerReloadListener(MODIFIER_RELOAD_LISTENER);
         manager.registerReloadListener(SlimeskullArmorModel.RELOAD_LISTENER);
@@ -124,6 +126,7 @@ public class ToolClientEvents extends ClientEventBase {
     static void clientSetupEvent(FMLClientSetupEvent event) {
         MinecraftForge.EVENT_BUS.addListener(ToolClientEvents::handleKeyBindings);
         MinecraftForge.EVENT_BUS.addListener(ToolClientEvents::handleInput);
+        MinecraftForge.EVENT_BUS.addListener(ToolClientEvents::bakeAhead);
         AbstractArmorModel.init();
 
         // keybinds
@@ -277,6 +280,16 @@ public class ToolClientEvents extends ClientEventBase {
         }
     }
 
+    /**
+     * Called on player tick to bake models for tools in the inventory before they are rendered
+     */
+    private static void bakeAhead(PlayerTickEvent event) {
+        MinecraftClient minecraft = MinecraftClient.getInstance();
+        if (event.phase == Phase.END && event.side == LogicalSide.CLIENT && event.player == minecraft.player && event.player.age % 20 == 0) {
+            ToolModel.bakeAhead(event.player);
+        }
+    }
+
     private static void handleInput(MovementInputUpdateEvent event) {
         PlayerEntity player = event.getEntity();
         if (player.isUsingItem() && !player.hasVehicle()) {
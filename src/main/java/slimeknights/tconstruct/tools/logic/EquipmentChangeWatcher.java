@@ -26,6 +26,7 @@ import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierHooks;
 import slimeknights.tconstruct.library.modifiers.hook.interaction.GeneralInteractionModifierHook;
 import slimeknights.tconstruct.library.tools.context.EquipmentChangeContext;
+import slimeknights.tconstruct.library.tools.context.EquipmentHookIndex;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 
 import javax.annotation.Nonnull;
@@ -104,6 +105,8 @@ public class EquipmentChangeWatcher {
      * Shared modifier hook logic
      */
     private static void runModifierHooks(LivingEntity entity, EquipmentSlot changedSlot, ItemStack original, ItemStack replacement) {
+        // cached hook lists no longer match the equipment
+        EquipmentHookIndex.invalidate(entity);
         EquipmentChangeContext context = new EquipmentChangeContext(entity, changedSlot, original, replacement);
 
         // first, fire event to notify an item was removed
@@ -5,6 +5,7 @@ import net.minecraft.block.*;
 import net.minecraft.block.entity.BeehiveBlockEntity;
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.entity.*;
+import net.minecraft.entity.EquipmentSlot.Type;
 import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.player.PlayerEntity;
@@ -50,6 +51,8 @@ import slimeknights.tconstruct.library.tools.capability.PersistentDataCapability
 import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability;
 import slimeknights.tconstruct.library.tools.capability.TinkerDataKeys;
 import slimeknights.tconstruct.library.tools.context.EquipmentContext;
+import slimeknights.tconstruct.library.tools.context.EquipmentHookIndex;
+import slimeknights.tconstruct.library.tools.context.EquipmentHookIndex.HookEntry;
 import slimeknights.tconstruct.library.tools.definition.ModifiableArmorMaterial;
 import slimeknights.tconstruct.library.tools.helper.ArmorUtil;
 import slimeknights.tconstruct.library.tools.helper.ModifierUtil;
@@ -181,20 +184,18 @@ public class ToolEvents {
         boolean isDirectDamage = OnAttackedModifierHook.isDirectDamage(source);
 
         // determine if there is any modifiable armor, handles the target wearing modifiable armor
-        EquipmentContext context = new EquipmentContext(entity);
+        EquipmentHookIndex index = EquipmentHookIndex.get(entity);
+        EquipmentContext context = index.createContext(entity);
         float amount = event.getAmount();
         if (context.hasModifiableArmor()) {
             // first we need to determine if any of the four slots want to cancel the event
-            for (EquipmentSlot slotType : EquipmentSlot.values()) {
-                if (ModifierUtil.validArmorSlot(entity, slotType)) {
-                    IToolStackView toolStack = context.getToolInSlot(slotType);
-                    if (toolStack != null && !toolStack.isBroken()) {
-                        for (ModifierEntry entry : toolStack.getModifierList()) {
-                            if (entry.getHook(ModifierHooks.DAMAGE_BLOCK).isDamageBlocked(toolStack, entry, context, slotType, source, amount)) {
-                                event.setCanceled(true);
-                                return;
-                            }
-                        }
+            for (HookEntry hookEntry : index.getEntries(ModifierHooks.DAMAGE_BLOCK)) {
+                IToolStackView toolStack = hookEntry.tool();
+                if (hookEntry.validArmorSlot() && !toolStack.isBroken()) {
+                    ModifierEntry entry = hookEntry.modifier();
+                    if (entry.getHook(ModifierHooks.DAMAGE_BLOCK).isDamageBlocked(toolStack, entry, context, hookEntry.slot(), source, amount)) {
+                        event.setCanceled(true);
+                        return;
                     }
                 }
             }
@@ -206,14 +207,14 @@ public class ToolEvents {
         // next, consider the attacker is wearing modifiable armor
         Entity attacker = source.getAttacker();
         if (attacker instanceof LivingEntity livingAttacker) {
-            context = new EquipmentContext(livingAttacker);
+            index = EquipmentHookIndex.get(livingAttacker);
+            context = index.createContext(livingAttacker);
             if (context.hasModifiableArmor()) {
-                for (EquipmentSlot slotType : ModifiableArmorMaterial.ARMOR_SLOTS) {
-                    IToolStackView toolStack = context.getToolInSlot(slotType);
-                    if (toolStack != null && !toolStack.isBroken()) {
-                        for (ModifierEntry entry : toolStack.getModifierList()) {
-                            entry.getHook(ModifierHooks.DAMAGE_DEALT).onDamageDealt(toolStack, entry, context, slotType, entity, source, amount, isDirectDamage);
-                        }
+                for (HookEntry hookEntry : index.getEntries(ModifierHooks.DAMAGE_DEALT)) {
+                    IToolStackView toolStack = hookEntry.tool();
+                    if (hookEntry.slot().getType() == Type.ARMOR && !toolStack.isBroken()) {
+                        ModifierEntry entry = hookEntry.modifier();
+                        entry.getHook(ModifierHooks.DAMAGE_DEALT).onDamageDealt(toolStack, entry, context, hookEntry.slot(), entity, source, amount, isDirectDamage);
                     }
                 }
             }
@@ -241,7 +242,8 @@ public class ToolEvents {
 
         // determine if there is any modifiable armor, if not nothing to do
         DamageSource source = event.getSource();
-        EquipmentContext context = new EquipmentContext(entity);
+        EquipmentHookIndex index = EquipmentHookIndex.get(entity);
+        EquipmentContext context = index.createContext(entity);
         int vanillaModifier = 0;
         float modifierValue = 0;
         float originalDamage = event.getAmount();
@@ -264,14 +266,11 @@ public class ToolEvents {
 
             // next, determine how much tinkers armor wants to change it
             // note that armor modifiers can choose to block "absolute damage" if they wish, currently just starving damage I think
-            for (EquipmentSlot slotType : EquipmentSlot.values()) {
-                if (ModifierUtil.validArmorSlot(entity, slotType)) {
-                    IToolStackView tool = context.getToolInSlot(slotType);
-                    if (tool != null && !tool.isBroken()) {
-                        for (ModifierEntry entry : tool.getModifierList()) {
-                            modifierValue = entry.getHook(ModifierHooks.PROTECTION).getProtectionModifier(tool, entry, context, slotType, source, modifierValue);
-                        }
-                    }
+            for (HookEntry hookEntry : index.getEntries(ModifierHooks.PROTECTION)) {
+                IToolStackView tool = hookEntry.tool();
+                if (hookEntry.validArmorSlot() && !tool.isBroken()) {
+                    ModifierEntry entry = hookEntry.modifier();
+                    modifierValue = entry.getHook(ModifierHooks.PROTECTION).getProtectionModifier(tool, entry, context, hookEntry.slot(), source, modifierValue);
                 }
             }
 
@@ -337,7 +336,7 @@ public class ToolEvents {
         DamageSource source = event.getSource();
 
         // give modifiers a chance to respond to damage happening
-        EquipmentContext context = new EquipmentContext(entity);
+        EquipmentContext context = EquipmentHookIndex.get(entity).createContext(entity);
         if (context.hasModifiableArmor()) {
             float amount = ModifyDamageModifierHook.modifyDamageTaken(ModifierHooks.MODIFY_DAMAGE, context, source, event.getAmount(), OnAttackedModifierHook.isDirectDamage(source));
             event.setAmount(amount);
@@ -135,6 +135,17 @@ public class ToolContainerMenu extends ScreenHandler {
                 if (!this.insertItem(slotStack, this.playerInventoryStart, end, true)) {
                     return ItemStack.EMPTY;
                 }
+            } else if (this.itemHandler instanceof ToolInventoryCapability inventory) {
+                // tool inventories move the whole stack in one pass, rather than trying each slot in turn
+                int count = slotStack.getCount();
+                slotStack.setCount(inventory.insertItem(slotStack, false).getCount());
+                // offhand slot comes after the tool slots
+                if (!slotStack.isEmpty() && this.showOffhand) {
+                    this.insertItem(slotStack, inventory.getSlots(), this.playerInventoryStart, false);
+                }
+                if (slotStack.getCount() == count) {
+                    return ItemStack.EMPTY;
+                }
             } else if (!this.insertItem(slotStack, 0, this.playerInventoryStart, false)) {
                 return ItemStack.EMPTY;
             }
@@ -5,8 +5,6 @@ import net.minecraft.item.ArrowItem;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
-import net.minecraft.nbt.NbtCompound;
-import net.minecraft.nbt.NbtList;
 import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.Nullable;
 import slimeknights.tconstruct.TConstruct;
@@ -18,7 +16,6 @@ import slimeknights.tconstruct.library.modifiers.hook.ranged.BowAmmoModifierHook
 import slimeknights.tconstruct.library.module.ModuleHookMap.Builder;
 import slimeknights.tconstruct.library.recipe.partbuilder.Pattern;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
-import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 
 import java.util.function.Predicate;
 
@@ -60,19 +57,11 @@ public class BulkQuiverModifier extends InventoryMenuModifier implements BowAmmo
         if (!standardAmmo.isEmpty()) {
             return ItemStack.EMPTY;
         }
-        ModDataNBT persistentData = tool.getPersistentData();
-        Identifier key = this.getInventoryKey();
-        NbtList slots = persistentData.get(key, GET_COMPOUND_LIST);
-        if (!slots.isEmpty()) {
-            // search all slots for the first match
-            for (int i = 0; i < slots.size(); i++) {
-                NbtCompound compound = slots.getCompound(i);
-                ItemStack stack = ItemStack.fromNbt(compound);
-                if (!stack.isEmpty() && ammoPredicate.test(stack)) {
-                    persistentData.putInt(LAST_SLOT, compound.getInt(TAG_SLOT));
-                    return stack;
-                }
-            }
+        // search all slots for the first match
+        int slot = this.findSlot(tool, modifier, ammoPredicate);
+        if (slot != -1) {
+            tool.getPersistentData().putInt(LAST_SLOT, slot);
+            return this.getStack(tool, modifier, slot);
         }
         return ItemStack.EMPTY;
     }
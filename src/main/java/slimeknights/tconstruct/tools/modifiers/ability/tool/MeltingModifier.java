@@ -16,11 +16,11 @@ import slimeknights.tconstruct.library.modifiers.hook.combat.MeleeHitModifierHoo
 import slimeknights.tconstruct.library.modifiers.impl.NoLevelsModifier;
 import slimeknights.tconstruct.library.modifiers.modules.build.StatBoostModule;
 import slimeknights.tconstruct.library.module.ModuleHookMap.Builder;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipe;
 import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipeCache;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingContainer;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingRecipe;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipeLookup;
 import slimeknights.tconstruct.library.tools.capability.fluid.ToolTankHelper;
 import slimeknights.tconstruct.library.tools.context.ToolAttackContext;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
@@ -66,7 +66,7 @@ public class MeltingModifier extends NoLevelsModifier implements MeleeHitModifie
         // first, update inventory
         IMeltingRecipe recipe = lastRecipe;
         if (recipe == null || !recipe.matches(inventory, world)) {
-            recipe = world.getRecipeManager().getFirstMatch(TinkerRecipeTypes.MELTING.get(), inventory, world).orElse(null);
+            recipe = MeltingRecipeLookup.findRecipe(world, inventory);
             if (recipe == null) {
                 inventory.setStack(ItemStack.EMPTY);
                 return FluidStack.EMPTY;
@@ -23,8 +23,8 @@ import slimeknights.tconstruct.library.modifiers.ModifierHooks;
 import slimeknights.tconstruct.library.modifiers.hook.display.TooltipModifierHook;
 import slimeknights.tconstruct.library.modifiers.hook.mining.BreakSpeedModifierHook;
 import slimeknights.tconstruct.library.module.ModuleHookMap.Builder;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingContainer;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipeLookup;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 
@@ -51,7 +51,7 @@ public class SearingModifier extends Modifier implements BreakSpeedModifierHook,
      */
     private static boolean isEffective(World world, Item item) {
         CONTAINER.setStack(new ItemStack(item));
-        boolean effective = world.getRecipeManager().getFirstMatch(TinkerRecipeTypes.MELTING.get(), CONTAINER, world).isPresent();
+        boolean effective = MeltingRecipeLookup.findRecipe(world, CONTAINER) != null;
         CONTAINER.setStack(ItemStack.EMPTY);
         return effective;
     }
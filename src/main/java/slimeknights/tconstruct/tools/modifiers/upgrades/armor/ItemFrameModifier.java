@@ -1,15 +1,11 @@
 package slimeknights.tconstruct.tools.modifiers.upgrades.armor;
 
 import net.minecraft.item.ItemStack;
-import net.minecraft.nbt.NbtCompound;
-import net.minecraft.nbt.NbtElement;
-import net.minecraft.nbt.NbtList;
 import org.jetbrains.annotations.Nullable;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.impl.InventoryModifier;
 import slimeknights.tconstruct.library.recipe.partbuilder.Pattern;
-import slimeknights.tconstruct.library.tools.nbt.IModDataView;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 
 import java.util.List;
@@ -39,25 +35,12 @@ public class ItemFrameModifier extends InventoryModifier {
      * Parses all stacks in NBT into the passed list
      */
     public void getAllStacks(IToolStackView tool, ModifierEntry entry, List<ItemStack> stackList) {
-        IModDataView modData = tool.getPersistentData();
-        if (modData.contains(ITEM_FRAME, NbtElement.LIST_TYPE)) {
-            NbtList list = tool.getPersistentData().get(ITEM_FRAME, GET_COMPOUND_LIST);
-            int max = this.getSlots(tool, entry);
-
-            // make sure the stacks are in order, NBT could store them in any order
-            ItemStack[] parsed = new ItemStack[max];
-            for (int i = 0; i < list.size(); i++) {
-                NbtCompound compound = list.getCompound(i);
-                int slot = compound.getInt(TAG_SLOT);
-                if (slot < max) {
-                    parsed[slot] = ItemStack.fromNbt(compound);
-                }
-            }
-            // add stacks into the list
-            for (ItemStack stack : parsed) {
-                if (stack != null && !stack.isEmpty()) {
-                    stackList.add(stack);
-                }
+        // stacks are indexed by slot, so they come out in order
+        int max = this.getSlots(tool, entry);
+        for (int slot = 0; slot < max; slot++) {
+            ItemStack stack = this.getStack(tool, entry, slot);
+            if (!stack.isEmpty()) {
+                stackList.add(stack);
             }
         }
     }
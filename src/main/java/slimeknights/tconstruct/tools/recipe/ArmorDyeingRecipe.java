@@ -44,6 +44,7 @@ public class ArmorDyeingRecipe implements ITinkerStationRecipe, IMultiRecipe<IDi
 
     @Getter
     private final Identifier id;
+    @Getter
     private final Ingredient toolRequirement;
 
     public ArmorDyeingRecipe(Identifier id, Ingredient toolRequirement) {
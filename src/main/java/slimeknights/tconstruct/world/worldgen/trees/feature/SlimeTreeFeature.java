@@ -1,8 +1,9 @@
 package slimeknights.tconstruct.world.worldgen.trees.feature;
 
-import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.mojang.serialization.Codec;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.block.VineBlock;
@@ -27,10 +28,15 @@ import net.minecraft.world.level.material.Material;
 import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.world.worldgen.trees.config.SlimeTreeConfig;
 
-import java.util.List;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Set;
 
 public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
+    /**
+     * Max distance set on leaves by the feature, further leaves are left to decay
+     */
+    private static final int MAX_DISTANCE = 6;
 
     public SlimeTreeFeature(Codec<SlimeTreeConfig> codec) {
         super(codec);
@@ -40,14 +46,14 @@ public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
     public boolean generate(FeatureContext<SlimeTreeConfig> context) {
         Set<BlockPos> trunkPos = Sets.newHashSet();
         Set<BlockPos> foliagePos = Sets.newHashSet();
-        Set<BlockPos> leavesPos = Sets.newHashSet();
 
-        BlockBox boundingBox = BlockBox.infinite();
+        BlockPos origin = context.getOrigin();
+        BlockBox boundingBox = new BlockBox(origin);
         StructureWorldAccess level = context.getWorld();
 
-        boolean placed = this.place(level, context.getRandom(), context.getOrigin(), trunkPos, foliagePos, boundingBox, context.getConfig());
-        if (boundingBox.getMinX() <= boundingBox.getMaxX() && placed && !trunkPos.isEmpty()) {
-            VoxelSet voxelshapepart = this.updateLeaves(level, boundingBox, trunkPos, leavesPos);
+        boolean placed = this.place(level, context.getRandom(), origin, trunkPos, foliagePos, boundingBox, context.getConfig());
+        if (placed && !trunkPos.isEmpty()) {
+            VoxelSet voxelshapepart = this.updateLeaves(level, boundingBox, trunkPos, foliagePos);
             StructureTemplate.updateCorner(level, 3, voxelshapepart, boundingBox.getMinX(), boundingBox.getMinY(), boundingBox.getMinZ());
             return true;
         }
@@ -74,7 +80,7 @@ public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
         if (positionIn.getY() >= level.getBottomY() + 1 && positionIn.getY() + height + 1 <= level.getTopY() && isSlimySoilAt(level, positionIn.down())) {
             this.setDirtAt(level, positionIn.down(), positionIn);
             this.placeTrunk(level, rand, height, positionIn, trunkBlockPosSet, boundingBoxIn, configIn);
-            this.placeCanopy(level, rand, height, positionIn, trunkBlockPosSet, boundingBoxIn, configIn);
+            this.placeCanopy(level, rand, height, positionIn, foliagePositions, boundingBoxIn, configIn);
             return true;
         }
         return false;
@@ -187,7 +193,7 @@ public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
             return false;
         } else {
             this.setBlockState(worldIn, blockPos, treeFeatureConfigIn.trunkProvider.get(randomIn, blockPos));
-            //TODO mutableBoundingBoxIn.expand(new BoundingBox(blockPos, blockPos));
+            mutableBoundingBoxIn.encompass(blockPos);
             blockPosSet.add(blockPos.toImmutable());
             return true;
         }
@@ -198,7 +204,7 @@ public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
             return false;
         } else {
             this.setBlockState(worldIn, blockPos, Blocks.AIR.getDefaultState());
-            //TODO mutableBoundingBoxIn.expand(new BoundingBox(blockPos, blockPos));
+            mutableBoundingBoxIn.encompass(blockPos);
             blockPosSet.add(blockPos.toImmutable());
             return true;
         }
@@ -209,7 +215,7 @@ public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
             return false;
         } else {
             this.setBlockState(worldIn, blockPos, treeFeatureConfigIn.leavesProvider.get(random, blockPos));
-            //TODO mutableBoundingBoxIn.expand(new BoundingBox(blockPos, blockPos));
+            mutableBoundingBoxIn.encompass(blockPos);
             blockPosSet.add(blockPos.toImmutable());
             return true;
         }
@@ -220,7 +226,7 @@ public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
             return false;
         } else {
             this.setBlockState(worldIn, blockPos, vineState);
-            //TODO mutableBoundingBoxIn.expand(new BoundingBox(blockPos, blockPos));
+            mutableBoundingBoxIn.encompass(blockPos);
             blockPosSet.add(blockPos.toImmutable());
             return true;
         }
@@ -274,69 +280,182 @@ public class SlimeTreeFeature extends Feature<SlimeTreeConfig> {
         writer.setBlockState(blockPos, state, 19);
     }
 
-    private VoxelSet updateLeaves(WorldAccess world, BlockBox boundingBox, Set<BlockPos> logs, Set<BlockPos> leaves) {
-        List<Set<BlockPos>> distanceList = Lists.newArrayList();
-        VoxelSet shapePart = new BitSetVoxelSet(boundingBox.getBlockCountX(), boundingBox.getBlockCountY(), boundingBox.getBlockCountZ());
-        for (int j = 0; j < 6; ++j) {
-            distanceList.add(Sets.newHashSet());
+    /**
+     * Updates leaf distances for the placed tree. Distances are computed in a buffer over the tree's bounding box, then changed leaves are written to the world in one pass.
+     * Leaves outside the bounding box belong to other trees, so they are left for their own scheduled ticks.
+     *
+     * @param world       World instance
+     * @param boundingBox Bounds of all placed blocks
+     * @param logs        Placed logs
+     * @param foliage     Placed leaves, vines, and cleared blocks
+     * @return Shape of all changed blocks relative to the bounding box
+     */
+    private VoxelSet updateLeaves(WorldAccess world, BlockBox boundingBox, Set<BlockPos> logs, Set<BlockPos> foliage) {
+        LeafDistanceBuffer buffer = new LeafDistanceBuffer(world, boundingBox);
+        for (BlockPos pos : foliage) {
+            buffer.markChanged(pos);
         }
 
-        BlockPos.Mutable mutable = new BlockPos.Mutable();
-
-        //for (BlockPos leavePos : Lists.newArrayList(leaves)) {
-        //if (boundingBox.isInside(leavePos)) {
-        //TODO shapePart.setFull(leavePos.getX() - boundingBox.minX(), leavePos.getY() - boundingBox.minY(), leavePos.getZ() - boundingBox.minZ(), true, true);
-        //}
-        //}
+        // logs are the source of all distances
+        IntArrayFIFOQueue queue = new IntArrayFIFOQueue();
+        for (BlockPos pos : logs) {
+            int index = buffer.getIndex(pos.getX(), pos.getY(), pos.getZ());
+            buffer.setLog(index);
+            queue.enqueue(index);
+        }
 
-        for (BlockPos logPos : Lists.newArrayList(logs)) {
-            //if (boundingBox.isInside(logPos)) {
-            //TODO shapePart.setFull(logPos.getX() - boundingBox.minX(), logPos.getY() - boundingBox.minY(), logPos.getZ() - boundingBox.minZ(), true, true);
-            //}
+        // breadth first search means each leaf is reached first by its shortest distance
+        while (!queue.isEmpty()) {
+            int index = queue.dequeueInt();
+            int distance = buffer.getDistance(index) + 1;
+            if (distance > MAX_DISTANCE) {
+                continue;
+            }
+            int x = buffer.getX(index), y = buffer.getY(index), z = buffer.getZ(index);
             for (Direction direction : Direction.values()) {
-                mutable.set(logPos, direction);
-                if (!logs.contains(mutable)) {
-                    BlockState blockstate = world.getBlockState(mutable);
-                    if (blockstate.contains(Properties.DISTANCE_1_7)) {
-                        distanceList.get(0).add(mutable.toImmutable());
-                        setBlockStateAt(world, mutable, blockstate.with(Properties.DISTANCE_1_7, 1));
-                        //if (boundingBox.isInside(mutable)) {
-                        //TODO shapePart.setFull(mutable.getX() - boundingBox.minX(), mutable.getY() - boundingBox.minY(), mutable.getZ() - boundingBox.minZ(), true, true);
-                        //}
-                    }
+                int neighbor = buffer.getIndex(x + direction.getOffsetX(), y + direction.getOffsetY(), z + direction.getOffsetZ());
+                if (neighbor != -1 && buffer.lowerDistance(neighbor, distance)) {
+                    queue.enqueue(neighbor);
                 }
             }
         }
 
-        for (int distance = 1; distance < 6; ++distance) {
-            Set<BlockPos> current = distanceList.get(distance - 1);
-            Set<BlockPos> next = distanceList.get(distance);
-
-            for (BlockPos pos : current) {
-                //if (boundingBox.isInside(pos)) {
-                //TODO shapePart.setFull(pos.getX() - boundingBox.minX(), pos.getY() - boundingBox.minY(), pos.getZ() - boundingBox.minZ(), true, true);
-                //}
-
-                for (Direction direction : Direction.values()) {
-                    mutable.set(pos, direction);
-                    if (!current.contains(mutable) && !next.contains(mutable)) {
-                        BlockState state = world.getBlockState(mutable);
-                        if (state.contains(Properties.DISTANCE_1_7)) {
-                            int stateDistance = state.get(Properties.DISTANCE_1_7);
-                            if (stateDistance > distance + 1) {
-                                BlockState furtherState = state.with(Properties.DISTANCE_1_7, distance + 1);
-                                setBlockStateAt(world, mutable, furtherState);
-                                //if (boundingBox.isInside(mutable)) {
-                                //TODO shapePart.setFull(mutable.getX() - boundingBox.minX(), mutable.getY() - boundingBox.minY(), mutable.getZ() - boundingBox.minZ(), true, true);
-                                //}
-                                next.add(mutable.toImmutable());
-                            }
-                        }
-                    }
+        buffer.flush();
+        return buffer.shape;
+    }
+
+    /**
+     * Buffer of leaf distances over the bounding box of a tree, reading block states from the world lazily
+     */
+    private static class LeafDistanceBuffer {
+        /**
+         * Distance value for a position that has not been read from the world
+         */
+        private static final byte UNKNOWN = -1;
+        /**
+         * Distance value for positions without a leaf distance, or logs
+         */
+        private static final byte NONE = 0;
+
+        private final WorldAccess world;
+        private final int minX, minY, minZ;
+        private final int sizeX, sizeY, sizeZ;
+        /**
+         * Distance for each position in the box
+         */
+        private final byte[] distances;
+        /**
+         * Block state for each position with a distance
+         */
+        private final BlockState[] states;
+        /**
+         * Positions whose distance was lowered and need to be written to the world
+         */
+        private final BitSet changed;
+        /**
+         * Shape of all changed blocks for neighbor updates
+         */
+        private final VoxelSet shape;
+        private final BlockPos.Mutable mutable = new BlockPos.Mutable();
+
+        private LeafDistanceBuffer(WorldAccess world, BlockBox box) {
+            this.world = world;
+            this.minX = box.getMinX();
+            this.minY = box.getMinY();
+            this.minZ = box.getMinZ();
+            this.sizeX = box.getBlockCountX();
+            this.sizeY = box.getBlockCountY();
+            this.sizeZ = box.getBlockCountZ();
+            int volume = sizeX * sizeY * sizeZ;
+            this.distances = new byte[volume];
+            Arrays.fill(this.distances, UNKNOWN);
+            this.states = new BlockState[volume];
+            this.changed = new BitSet(volume);
+            this.shape = new BitSetVoxelSet(sizeX, sizeY, sizeZ);
+        }
+
+        /**
+         * Gets the index for the given world position, or -1 if outside the box
+         */
+        private int getIndex(int x, int y, int z) {
+            x -= minX;
+            y -= minY;
+            z -= minZ;
+            if (x < 0 || y < 0 || z < 0 || x >= sizeX || y >= sizeY || z >= sizeZ) {
+                return -1;
+            }
+            return (y * sizeZ + z) * sizeX + x;
+        }
+
+        private int getX(int index) {
+            return minX + index % sizeX;
+        }
+
+        private int getY(int index) {
+            return minY + index / (sizeX * sizeZ);
+        }
+
+        private int getZ(int index) {
+            return minZ + (index / sizeX) % sizeZ;
+        }
+
+        /**
+         * Marks the given position as placed by the feature
+         */
+        private void markChanged(BlockPos pos) {
+            shape.set(pos.getX() - minX, pos.getY() - minY, pos.getZ() - minZ);
+        }
+
+        /**
+         * Marks the given index as a log
+         */
+        private void setLog(int index) {
+            distances[index] = NONE;
+            shape.set(getX(index) - minX, getY(index) - minY, getZ(index) - minZ);
+        }
+
+        /**
+         * Gets the distance at the given index, reading it from the world if needed
+         */
+        private int getDistance(int index) {
+            byte distance = distances[index];
+            if (distance == UNKNOWN) {
+                BlockState state = world.getBlockState(mutable.set(getX(index), getY(index), getZ(index)));
+                if (state.contains(Properties.DISTANCE_1_7)) {
+                    states[index] = state;
+                    distance = state.get(Properties.DISTANCE_1_7).byteValue();
+                } else {
+                    distance = NONE;
                 }
+                distances[index] = distance;
             }
+            return distance;
         }
 
-        return shapePart;
+        /**
+         * Lowers the distance at the given index if it is a leaf further than the given distance
+         *
+         * @return True if the distance was lowered
+         */
+        private boolean lowerDistance(int index, int distance) {
+            if (getDistance(index) > distance) {
+                distances[index] = (byte) distance;
+                changed.set(index);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Writes all changed distances to the world
+         */
+        private void flush() {
+            for (int index = changed.nextSetBit(0); index >= 0; index = changed.nextSetBit(index + 1)) {
+                int x = getX(index), y = getY(index), z = getZ(index);
+                // neighbors are updated through the returned shape, so skip updating them here
+                world.setBlockState(mutable.set(x, y, z), states[index].with(Properties.DISTANCE_1_7, (int) distances[index]), Block.NOTIFY_LISTENERS | Block.FORCE_STATE);
+                shape.set(x - minX, y - minY, z - minZ);
+            }
+        }
     }
 }